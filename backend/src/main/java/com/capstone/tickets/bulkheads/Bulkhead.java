@@ -0,0 +1,19 @@
+package com.capstone.tickets.bulkheads;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the annotated service method inside the given bulkhead. A permit is taken before any
+ * transaction opens, and calls made while the thread already holds a permit pass straight through.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Bulkhead {
+
+  BulkheadTypeEnum value();
+}
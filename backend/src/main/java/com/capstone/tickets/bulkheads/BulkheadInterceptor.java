@@ -0,0 +1,37 @@
+package com.capstone.tickets.bulkheads;
+
+import java.lang.reflect.Method;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+public class BulkheadInterceptor implements MethodInterceptor {
+
+  private final ObjectProvider<BulkheadRegistry> bulkheadRegistry;
+
+  public BulkheadInterceptor(ObjectProvider<BulkheadRegistry> bulkheadRegistry) {
+    this.bulkheadRegistry = bulkheadRegistry;
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    Method method = null == invocation.getThis()
+        ? invocation.getMethod()
+        : AopUtils.getMostSpecificMethod(invocation.getMethod(),
+            AopUtils.getTargetClass(invocation.getThis()));
+    Bulkhead bulkhead = AnnotatedElementUtils.findMergedAnnotation(method, Bulkhead.class);
+    if (null == bulkhead) {
+      return invocation.proceed();
+    }
+
+    BulkheadRegistry registry = bulkheadRegistry.getObject();
+    BulkheadLimiter limiter = registry.enter(bulkhead.value());
+    try {
+      return invocation.proceed();
+    } finally {
+      registry.exit(limiter);
+    }
+  }
+}
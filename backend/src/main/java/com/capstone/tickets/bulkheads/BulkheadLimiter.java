@@ -0,0 +1,78 @@
+package com.capstone.tickets.bulkheads;
+
+import com.capstone.tickets.exceptions.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fair concurrency limit for one bulkhead. Callers wait up to maxWait for a permit and are
+ * rejected after that, rather than queueing on the connection pool.
+ */
+public class BulkheadLimiter {
+
+  private final String key;
+  private final int maxConcurrent;
+  private final Duration maxWait;
+  private final Semaphore permits;
+  private final Timer waitTimer;
+  private final Counter rejections;
+
+  public BulkheadLimiter(String key, int maxConcurrent, Duration maxWait,
+      MeterRegistry meterRegistry) {
+    this.key = key;
+    this.maxConcurrent = maxConcurrent;
+    this.maxWait = maxWait;
+    this.permits = new Semaphore(maxConcurrent, true);
+
+    Gauge.builder("bulkhead.max", this, limiter -> limiter.maxConcurrent)
+        .tag("bulkhead", key)
+        .register(meterRegistry);
+    Gauge.builder("bulkhead.active", this, BulkheadLimiter::active)
+        .tag("bulkhead", key)
+        .register(meterRegistry);
+    Gauge.builder("bulkhead.waiting", permits, Semaphore::getQueueLength)
+        .tag("bulkhead", key)
+        .register(meterRegistry);
+    Gauge.builder("bulkhead.saturation", this,
+            limiter -> (double) limiter.active() / limiter.maxConcurrent)
+        .tag("bulkhead", key)
+        .register(meterRegistry);
+    this.waitTimer = Timer.builder("bulkhead.wait")
+        .tag("bulkhead", key)
+        .register(meterRegistry);
+    this.rejections = Counter.builder("bulkhead.rejections")
+        .tag("bulkhead", key)
+        .register(meterRegistry);
+  }
+
+  public void acquire() {
+    long start = System.nanoTime();
+    boolean acquired;
+    try {
+      acquired = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      acquired = false;
+    }
+    waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+    if (!acquired) {
+      rejections.increment();
+      throw new BulkheadFullException(
+          String.format("The %s bulkhead is saturated", key));
+    }
+  }
+
+  public void release() {
+    permits.release();
+  }
+
+  private int active() {
+    return maxConcurrent - permits.availablePermits();
+  }
+}
@@ -0,0 +1,102 @@
+package com.capstone.tickets.bulkheads;
+
+import com.capstone.tickets.config.ReadReplicaRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * One limiter per bulkhead, sized from app.bulkheads.{key}.max-concurrent and
+ * app.bulkheads.{key}.max-wait.
+ *
+ * <p>With read routing enabled, public reads run on the replicas while one is healthy, so they
+ * take their permit from a separate limiter sized to the replica pools
+ * (app.bulkheads.public-read.replica-max-concurrent) and only fall back to the primary-sized one
+ * when every replica is out.
+ */
+@Component
+public class BulkheadRegistry {
+
+  // Nested bulkheaded calls (including after-commit listeners) reuse the outer permit
+  private static final ThreadLocal<BulkheadTypeEnum> HELD = new ThreadLocal<>();
+
+  private final Map<BulkheadTypeEnum, BulkheadLimiter> limiters =
+      new EnumMap<>(BulkheadTypeEnum.class);
+  private final ReadReplicaRoutingDataSource readRouting;
+  private final BulkheadLimiter replicaReadLimiter;
+
+  public BulkheadRegistry(Environment environment, MeterRegistry meterRegistry,
+      ObjectProvider<ReadReplicaRoutingDataSource> readRouting) {
+    for (BulkheadTypeEnum type : BulkheadTypeEnum.values()) {
+      limiters.put(type, new BulkheadLimiter(type.getKey(), maxConcurrent(environment, type),
+          maxWait(environment, type), meterRegistry));
+    }
+
+    this.readRouting = readRouting.getIfAvailable();
+    if (null == this.readRouting) {
+      this.replicaReadLimiter = null;
+    } else {
+      int replicaPoolSize = environment.getProperty(
+          "spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+      int maxConcurrent = environment.getProperty(
+          "app.bulkheads.public-read.replica-max-concurrent", Integer.class,
+          replicaPoolSize * this.readRouting.getReplicaCount());
+      this.replicaReadLimiter = new BulkheadLimiter("public-read-replica", maxConcurrent,
+          maxWait(environment, BulkheadTypeEnum.PUBLIC_READ), meterRegistry);
+    }
+  }
+
+  public BulkheadLimiter limiter(BulkheadTypeEnum type) {
+    if (BulkheadTypeEnum.PUBLIC_READ == type && null != replicaReadLimiter
+        && readRouting.hasHealthyReplica()) {
+      return replicaReadLimiter;
+    }
+    return limiters.get(type);
+  }
+
+  /**
+   * Runs work that is not a whole service method, such as a cache loader, inside the given
+   * bulkhead, so that cache hits never wait for a permit.
+   */
+  public <T> T call(BulkheadTypeEnum type, Supplier<T> work) {
+    BulkheadLimiter limiter = enter(type);
+    try {
+      return work.get();
+    } finally {
+      exit(limiter);
+    }
+  }
+
+  // Returns the limiter to release, or null when the thread already holds a permit
+  BulkheadLimiter enter(BulkheadTypeEnum type) {
+    if (null != HELD.get()) {
+      return null;
+    }
+    BulkheadLimiter limiter = limiter(type);
+    limiter.acquire();
+    HELD.set(type);
+    return limiter;
+  }
+
+  void exit(BulkheadLimiter limiter) {
+    if (null != limiter) {
+      HELD.remove();
+      limiter.release();
+    }
+  }
+
+  private static int maxConcurrent(Environment environment, BulkheadTypeEnum type) {
+    return environment.getProperty("app.bulkheads." + type.getKey() + ".max-concurrent",
+        Integer.class, type.getDefaultMaxConcurrent());
+  }
+
+  private static Duration maxWait(Environment environment, BulkheadTypeEnum type) {
+    return environment.getProperty("app.bulkheads." + type.getKey() + ".max-wait",
+        Duration.class, type.getDefaultMaxWait());
+  }
+}
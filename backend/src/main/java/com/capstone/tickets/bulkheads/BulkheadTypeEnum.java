@@ -0,0 +1,37 @@
+package com.capstone.tickets.bulkheads;
+
+import java.time.Duration;
+
+/**
+ * Traffic classes that get their own share of primary connections. The defaults take 18 of the
+ * default 20, leaving the rest for work outside any bulkhead (see application.properties).
+ */
+public enum BulkheadTypeEnum {
+  WRITE("write", 10, Duration.ofSeconds(2)),
+  PUBLIC_READ("public-read", 4, Duration.ofMillis(500)),
+  ANALYTICS("analytics", 2, Duration.ofSeconds(1)),
+  // Signed-in users reading their own events, tickets and QR codes, and first-login provisioning
+  ACCOUNT("account", 2, Duration.ofSeconds(1));
+
+  private final String key;
+  private final int defaultMaxConcurrent;
+  private final Duration defaultMaxWait;
+
+  BulkheadTypeEnum(String key, int defaultMaxConcurrent, Duration defaultMaxWait) {
+    this.key = key;
+    this.defaultMaxConcurrent = defaultMaxConcurrent;
+    this.defaultMaxWait = defaultMaxWait;
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public int getDefaultMaxConcurrent() {
+    return defaultMaxConcurrent;
+  }
+
+  public Duration getDefaultMaxWait() {
+    return defaultMaxWait;
+  }
+}
@@ -0,0 +1,30 @@
+package com.capstone.tickets.config;
+
+import com.capstone.tickets.bulkheads.Bulkhead;
+import com.capstone.tickets.bulkheads.BulkheadInterceptor;
+import com.capstone.tickets.bulkheads.BulkheadRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class BulkheadConfig {
+
+  // Ordered ahead of the transaction advisor so callers wait for a permit without holding a
+  // connection
+  @Bean
+  @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+  public static Advisor bulkheadAdvisor(ObjectProvider<BulkheadRegistry> bulkheadRegistry) {
+    DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+        AnnotationMatchingPointcut.forMethodAnnotation(Bulkhead.class),
+        new BulkheadInterceptor(bulkheadRegistry));
+    advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    return advisor;
+  }
+}
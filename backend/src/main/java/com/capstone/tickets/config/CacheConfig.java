@@ -0,0 +1,100 @@
+package com.capstone.tickets.config;
+
+import com.capstone.tickets.domain.ContentVersion;
+import com.capstone.tickets.domain.EventAvailability;
+import com.capstone.tickets.domain.EventStatsCacheKey;
+import com.capstone.tickets.domain.VersionedContent;
+import com.capstone.tickets.domain.dtos.GetEventStatsResponseDto;
+import com.capstone.tickets.domain.dtos.GetPublishedEventDetailsResponseDto;
+import com.capstone.tickets.domain.dtos.ListPublishedEventResponseDto;
+import com.capstone.tickets.domain.dtos.OrganizerDashboardSummaryDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+@Configuration
+public class CacheConfig {
+
+  private static final long DASHBOARD_CACHE_MAX_SIZE = 10_000;
+  private static final long PUBLISHED_EVENT_DETAILS_MAX_SIZE = 10_000;
+  private static final long PUBLISHED_EVENT_LISTING_MAX_SIZE = 100;
+  private static final long TICKET_AVAILABILITY_MAX_SIZE = 10_000;
+
+  @Bean
+  public Cache<UUID, OrganizerDashboardSummaryDto> dashboardSummaryCache(
+      @Value("${app.dashboard.cache-ttl:30s}") Duration ttl, MeterRegistry meterRegistry) {
+    return CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+        .expireAfterWrite(ttl)
+        .maximumSize(DASHBOARD_CACHE_MAX_SIZE)
+        .recordStats()
+        .<UUID, OrganizerDashboardSummaryDto>build(), "dashboard.summary");
+  }
+
+  @Bean
+  public Cache<EventStatsCacheKey, GetEventStatsResponseDto> dashboardEventStatsCache(
+      @Value("${app.dashboard.cache-ttl:30s}") Duration ttl, MeterRegistry meterRegistry) {
+    return CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+        .expireAfterWrite(ttl)
+        .maximumSize(DASHBOARD_CACHE_MAX_SIZE)
+        .recordStats()
+        .<EventStatsCacheKey, GetEventStatsResponseDto>build(), "dashboard.event-stats");
+  }
+
+  // Entries carry the version they were built at and are reloaded once it moves on, so the TTL
+  // only bounds memory
+  @Bean
+  public Cache<UUID, VersionedContent<GetPublishedEventDetailsResponseDto>>
+      publishedEventDetailsCache(
+      @Value("${app.published-events.cache-ttl:60s}") Duration ttl, MeterRegistry meterRegistry) {
+    return CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+        .expireAfterWrite(ttl)
+        .maximumSize(PUBLISHED_EVENT_DETAILS_MAX_SIZE)
+        .recordStats()
+        .<UUID, VersionedContent<GetPublishedEventDetailsResponseDto>>build(),
+        "published-events.details");
+  }
+
+  @Bean
+  public Cache<Pageable, VersionedContent<Page<ListPublishedEventResponseDto>>>
+      publishedEventListingCache(
+      @Value("${app.published-events.cache-ttl:60s}") Duration ttl, MeterRegistry meterRegistry) {
+    return CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+        .expireAfterWrite(ttl)
+        .maximumSize(PUBLISHED_EVENT_LISTING_MAX_SIZE)
+        .recordStats()
+        .<Pageable, VersionedContent<Page<ListPublishedEventResponseDto>>>build(),
+        "published-events.listing");
+  }
+
+  // Bounds how long writes on other instances take to change the listing ETag
+  @Bean
+  public Cache<String, ContentVersion> publishedListingVersionCache(
+      @Value("${app.published-events.version-refresh:5s}") Duration ttl,
+      MeterRegistry meterRegistry) {
+    return CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+        .expireAfterWrite(ttl)
+        .maximumSize(1)
+        .recordStats()
+        .<String, ContentVersion>build(), "published-events.listing-version");
+  }
+
+  // Expiry is fixed at load time; applying purchases to a snapshot must not extend its life
+  @Bean
+  public Cache<UUID, EventAvailability> ticketAvailabilityCache(
+      @Value("${app.availability.snapshot-ttl:30s}") Duration ttl, MeterRegistry meterRegistry) {
+    return CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+        .expireAfter(Expiry.<UUID, EventAvailability>creating((eventId, availability) -> ttl))
+        .maximumSize(TICKET_AVAILABILITY_MAX_SIZE)
+        .recordStats()
+        .<UUID, EventAvailability>build(), "ticket-availability");
+  }
+}
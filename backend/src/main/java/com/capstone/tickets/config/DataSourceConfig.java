@@ -0,0 +1,83 @@
+package com.capstone.tickets.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Replaces the auto-configured pool with one Hikari pool per route (primary, replica-1, ...),
+ * each reporting the hikaricp.* metrics under its own pool tag. Replicas are added by appending
+ * to app.datasource.read-routing.replicas; nothing else needs to change to scale reads.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.read-routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadRoutingProperties.class)
+public class DataSourceConfig {
+
+  @Bean(initMethod = "start", destroyMethod = "stop")
+  public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(
+      DataSourceProperties dataSourceProperties, ReadRoutingProperties readRoutingProperties,
+      Environment environment, MeterRegistry meterRegistry) {
+    HikariDataSource primary = pool(ReadReplicaRoutingDataSource.PRIMARY,
+        dataSourceProperties.determineUrl(), dataSourceProperties.determineUsername(),
+        dataSourceProperties.determinePassword(), dataSourceProperties, environment,
+        meterRegistry);
+
+    List<ReadRoutingProperties.Replica> replicas = readRoutingProperties.getReplicas();
+    Map<String, DataSource> replicaPools = new LinkedHashMap<>();
+    for (int i = 0; i < replicas.size(); i++) {
+      ReadRoutingProperties.Replica replica = replicas.get(i);
+      String name = "replica-" + (i + 1);
+      HikariDataSource pool = pool(name, replica.getUrl(),
+          null == replica.getUsername()
+              ? dataSourceProperties.determineUsername()
+              : replica.getUsername(),
+          null == replica.getPassword()
+              ? dataSourceProperties.determinePassword()
+              : replica.getPassword(),
+          dataSourceProperties, environment, meterRegistry);
+      pool.setReadOnly(true);
+      replicaPools.put(name, pool);
+    }
+
+    return new ReadReplicaRoutingDataSource(primary, replicaPools,
+        readRoutingProperties.getMaxLag(), readRoutingProperties.getLagQuery(),
+        readRoutingProperties.getCheckInterval(), meterRegistry);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+  }
+
+  // Every pool gets the shared spring.datasource.hikari.* settings (sizes, driver properties)
+  private static HikariDataSource pool(String name, String url, String username, String password,
+      DataSourceProperties dataSourceProperties, Environment environment,
+      MeterRegistry meterRegistry) {
+    HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .url(url)
+        .username(username)
+        .password(password)
+        .build();
+    Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+    pool.setPoolName(name);
+    pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+    return pool;
+  }
+}
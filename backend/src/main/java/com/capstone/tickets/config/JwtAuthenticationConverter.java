@@ -1,6 +1,5 @@
 package com.capstone.tickets.config;
 
-import com.capstone.tickets.domain.entities.User;
 import com.capstone.tickets.repositories.UserRepository;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -55,9 +54,9 @@ public class JwtAuthenticationConverter implements Converter<Jwt, JwtAuthenticat
         userId = UUID.nameUUIDFromBytes(subject.getBytes());
       }
 
-      // Get user from database and add their role
-      userRepository.findById(userId).ifPresent(user -> {
-        String roleAuthority = "ROLE_" + user.getRole().name();
+      // Get the user's role from the database, bypassing the second-level cache
+      userRepository.findRoleById(userId).ifPresent(role -> {
+        String roleAuthority = "ROLE_" + role.name();
         authorities.add(new SimpleGrantedAuthority(roleAuthority));
       });
 
@@ -0,0 +1,19 @@
+package com.capstone.tickets.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * A read-only transaction, which {@link ReadReplicaRoutingDataSource} sends to a healthy replica.
+ * Services otherwise use {@code jakarta.transaction.Transactional}, which has no read-only flag.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Transactional(readOnly = true)
+public @interface ReadOnlyTransactional {
+}
@@ -0,0 +1,186 @@
+package com.capstone.tickets.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections requested inside a read-only transaction to a replica, round-robin over the
+ * replicas that are currently within the allowed lag, and everything else to the primary. When no
+ * replica is healthy, read-only work falls back to the primary.
+ *
+ * <p>The routing decision is taken when the connection is acquired, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}; otherwise the
+ * transaction manager fetches the connection before the read-only flag is bound.
+ *
+ * <p>Lag checks run on their own thread rather than the shared scheduler, where a long archival
+ * run or index rebuild would hold them up. A replica whose last check is older than three check
+ * intervals counts as unhealthy, so a stalled checker cannot keep reads on a lagging replica.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  static final String PRIMARY = "primary";
+
+  private final List<Replica> replicas = new ArrayList<>();
+  private final Map<String, Counter> routeCounters = new HashMap<>();
+  private final AtomicInteger nextReplica = new AtomicInteger();
+  private final Duration maxLag;
+  private final String lagQuery;
+  private final Duration checkInterval;
+  private final long staleAfterNanos;
+  private ScheduledExecutorService lagChecker;
+
+  public ReadReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicaPools,
+      Duration maxLag, String lagQuery, Duration checkInterval, MeterRegistry meterRegistry) {
+    this.maxLag = maxLag;
+    this.lagQuery = lagQuery;
+    this.checkInterval = checkInterval;
+    this.staleAfterNanos = checkInterval.multipliedBy(3).toNanos();
+
+    Map<Object, Object> targets = new HashMap<>();
+    targets.put(PRIMARY, primary);
+    routeCounters.put(PRIMARY, routeCounter(PRIMARY, meterRegistry));
+    replicaPools.forEach((name, dataSource) -> {
+      Replica replica = new Replica(name, dataSource);
+      replicas.add(replica);
+      targets.put(name, dataSource);
+      routeCounters.put(name, routeCounter(name, meterRegistry));
+      Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds)
+          .tag("pool", name)
+          .baseUnit("seconds")
+          .register(meterRegistry);
+      Gauge.builder("datasource.replica.healthy", replica, r -> isHealthy(r) ? 1 : 0)
+          .tag("pool", name)
+          .register(meterRegistry);
+    });
+
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(primary);
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    String route = TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+        ? nextHealthyReplica()
+        : PRIMARY;
+    routeCounters.get(route).increment();
+    return route;
+  }
+
+  /**
+   * Starts checking replica lag every check interval on a dedicated thread.
+   */
+  public synchronized void start() {
+    if (null != lagChecker) {
+      return;
+    }
+    lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "replica-lag-check");
+      thread.setDaemon(true);
+      return thread;
+    });
+    lagChecker.scheduleWithFixedDelay(this::checkReplicaLag, 0, checkInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  public synchronized void stop() {
+    if (null != lagChecker) {
+      lagChecker.shutdownNow();
+      lagChecker = null;
+    }
+  }
+
+  // Replicas start unhealthy, so reads stay on the primary until the first check has passed.
+  // Exceptions are caught per replica, as one escaping would cancel the scheduled checks.
+  public void checkReplicaLag() {
+    for (Replica replica : replicas) {
+      replica.check(lagQuery, maxLag);
+    }
+  }
+
+  public int getReplicaCount() {
+    return replicas.size();
+  }
+
+  public boolean hasHealthyReplica() {
+    for (Replica replica : replicas) {
+      if (isHealthy(replica)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private String nextHealthyReplica() {
+    int size = replicas.size();
+    int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+    for (int i = 0; i < size; i++) {
+      Replica replica = replicas.get((start + i) % size);
+      if (isHealthy(replica)) {
+        return replica.name;
+      }
+    }
+    return PRIMARY;
+  }
+
+  private boolean isHealthy(Replica replica) {
+    return replica.healthy && System.nanoTime() - replica.checkedAtNanos <= staleAfterNanos;
+  }
+
+  private static Counter routeCounter(String route, MeterRegistry meterRegistry) {
+    return Counter.builder("datasource.routing.connections")
+        .tag("route", route)
+        .register(meterRegistry);
+  }
+
+  private static final class Replica {
+
+    private final String name;
+    private final JdbcTemplate jdbcTemplate;
+    private volatile boolean healthy;
+    private volatile double lagSeconds = Double.NaN;
+    private volatile long checkedAtNanos;
+
+    private Replica(String name, DataSource dataSource) {
+      this.name = name;
+      this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    private void check(String lagQuery, Duration maxLag) {
+      boolean wasHealthy = healthy;
+      try {
+        Double lag = jdbcTemplate.queryForObject(lagQuery, Double.class);
+        lagSeconds = null == lag ? 0 : lag;
+        checkedAtNanos = System.nanoTime();
+        healthy = lagSeconds * 1000 <= maxLag.toMillis();
+      } catch (RuntimeException ex) {
+        lagSeconds = Double.NaN;
+        healthy = false;
+        if (wasHealthy) {
+          log.warn("Replica {} failed its lag check, routing its reads to the primary", name, ex);
+        }
+        return;
+      }
+      if (wasHealthy && !healthy) {
+        log.warn("Replica {} is {}s behind, routing its reads to the primary", name, lagSeconds);
+      } else if (!wasHealthy && healthy) {
+        log.info("Replica {} is within the allowed lag, routing reads to it", name);
+      }
+    }
+  }
+}
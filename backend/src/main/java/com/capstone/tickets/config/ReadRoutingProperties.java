@@ -0,0 +1,47 @@
+package com.capstone.tickets.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Replica endpoints for read-only transactions. Credentials default to the primary's
+ * spring.datasource.username/password when a replica does not set its own.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.read-routing")
+public class ReadRoutingProperties {
+
+  private boolean enabled;
+
+  private List<Replica> replicas = new ArrayList<>();
+
+  /**
+   * Replicas whose replay lag exceeds this are skipped until they catch up.
+   */
+  private Duration maxLag = Duration.ofSeconds(5);
+
+  /**
+   * How often each replica's lag is checked; a replica not checked for three intervals is
+   * treated as unhealthy.
+   */
+  private Duration checkInterval = Duration.ofSeconds(5);
+
+  /**
+   * Returns the replica's lag in seconds. Zero when the server is not in recovery (a standalone
+   * instance used locally) or has replayed everything it received; use "SELECT 0" for H2.
+   */
+  private String lagQuery = "SELECT CASE WHEN NOT pg_is_in_recovery()"
+      + " OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+      + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+  @Data
+  public static class Replica {
+
+    private String url;
+    private String username;
+    private String password;
+  }
+}
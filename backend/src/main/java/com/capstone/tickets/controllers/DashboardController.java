@@ -2,15 +2,25 @@ package com.capstone.tickets.controllers;
 
 import static com.capstone.tickets.util.JwtUtil.parseUserId;
 
+import com.capstone.tickets.domain.dtos.EventSalesBucketResponseDto;
+import com.capstone.tickets.domain.dtos.GetEventStatsResponseDto;
 import com.capstone.tickets.domain.dtos.OrganizerDashboardSummaryDto;
+import com.capstone.tickets.domain.entities.RollupGranularityEnum;
+import com.capstone.tickets.mappers.EventSalesRollupMapper;
 import com.capstone.tickets.services.DashboardService;
+import com.capstone.tickets.services.SalesAnalyticsService;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -19,6 +29,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final SalesAnalyticsService salesAnalyticsService;
+    private final EventSalesRollupMapper eventSalesRollupMapper;
 
     @GetMapping("/summary")
     public ResponseEntity<OrganizerDashboardSummaryDto> getSummary(
@@ -26,4 +38,27 @@ public class DashboardController {
         UUID organizerId = parseUserId(jwt);
         return ResponseEntity.ok(dashboardService.getOrganizerSummary(organizerId));
     }
+
+    @GetMapping("/events/{eventId}")
+    public ResponseEntity<GetEventStatsResponseDto> getEventStats(
+            @AuthenticationPrincipal Jwt jwt,
+            @PathVariable UUID eventId) {
+        UUID organizerId = parseUserId(jwt);
+        return ResponseEntity.ok(dashboardService.getEventStats(organizerId, eventId));
+    }
+
+    @GetMapping("/events/{eventId}/sales")
+    public ResponseEntity<List<EventSalesBucketResponseDto>> getEventSales(
+            @AuthenticationPrincipal Jwt jwt,
+            @PathVariable UUID eventId,
+            @RequestParam(defaultValue = "MINUTE") RollupGranularityEnum granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        UUID organizerId = parseUserId(jwt);
+        return ResponseEntity.ok(
+                salesAnalyticsService.getEventSales(organizerId, eventId, granularity, from, to)
+                        .stream()
+                        .map(eventSalesRollupMapper::toEventSalesBucketResponseDto)
+                        .toList());
+    }
 }
@@ -3,6 +3,7 @@ package com.capstone.tickets.controllers;
 import static com.capstone.tickets.util.JwtUtil.parseUserId;
 
 import com.capstone.tickets.domain.CreateEventRequest;
+import com.capstone.tickets.domain.CursorPage;
 import com.capstone.tickets.domain.UpdateEventRequest;
 import com.capstone.tickets.domain.dtos.CreateEventRequestDto;
 import com.capstone.tickets.domain.dtos.CreateEventResponseDto;
@@ -29,6 +30,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -80,6 +82,19 @@ public class EventController {
     );
   }
 
+  @GetMapping(path = "/scroll")
+  public ResponseEntity<CursorPage<ListEventResponseDto>> scrollEvents(
+      @AuthenticationPrincipal Jwt jwt,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size
+  ) {
+    UUID userId = parseUserId(jwt);
+    return ResponseEntity.ok(
+        eventService.scrollEventsForOrganizer(userId, cursor, size)
+            .map(eventMapper::toListEventResponseDto)
+    );
+  }
+
   @GetMapping(path = "/{eventId}")
   public ResponseEntity<GetEventDetailsResponseDto> getEvent(
       @AuthenticationPrincipal Jwt jwt,
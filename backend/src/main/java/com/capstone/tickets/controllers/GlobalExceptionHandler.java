@@ -1,8 +1,12 @@
 package com.capstone.tickets.controllers;
 
 import com.capstone.tickets.domain.dtos.ErrorDto;
+import com.capstone.tickets.exceptions.BulkheadFullException;
 import com.capstone.tickets.exceptions.EventNotFoundException;
+import com.capstone.tickets.exceptions.EventNotOnSaleException;
 import com.capstone.tickets.exceptions.EventUpdateException;
+import com.capstone.tickets.exceptions.InvalidCursorException;
+import com.capstone.tickets.exceptions.InvalidRequestException;
 import com.capstone.tickets.exceptions.QrCodeGenerationException;
 import com.capstone.tickets.exceptions.QrCodeNotFoundException;
 import com.capstone.tickets.exceptions.TicketNotFoundException;
@@ -12,6 +16,7 @@ import com.capstone.tickets.exceptions.UserNotFoundException;
 import jakarta.validation.ConstraintViolationException;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -42,6 +47,14 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(errorDto, HttpStatus.BAD_REQUEST);
   }
 
+  @ExceptionHandler(EventNotOnSaleException.class)
+  public ResponseEntity<ErrorDto> handleEventNotOnSaleException(EventNotOnSaleException ex) {
+    log.error("Caught EventNotOnSaleException", ex);
+    ErrorDto errorDto = new ErrorDto();
+    errorDto.setError("Tickets for this event are not on sale");
+    return new ResponseEntity<>(errorDto, HttpStatus.BAD_REQUEST);
+  }
+
   @ExceptionHandler(QrCodeNotFoundException.class)
   public ResponseEntity<ErrorDto> handleQrCodeNotFoundException(QrCodeNotFoundException ex) {
     log.error("Caught QrCodeNotFoundException", ex);
@@ -91,6 +104,34 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(errorDto, HttpStatus.BAD_REQUEST);
   }
 
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<ErrorDto> handleInvalidCursorException(InvalidCursorException ex) {
+    log.error("Caught InvalidCursorException", ex);
+    ErrorDto errorDto = new ErrorDto();
+    errorDto.setError("Invalid cursor");
+    return new ResponseEntity<>(errorDto, HttpStatus.BAD_REQUEST);
+  }
+
+  // A client error, so logged without the stack trace
+  @ExceptionHandler(InvalidRequestException.class)
+  public ResponseEntity<ErrorDto> handleInvalidRequestException(InvalidRequestException ex) {
+    log.warn("Caught InvalidRequestException: {}", ex.getMessage());
+    ErrorDto errorDto = new ErrorDto();
+    errorDto.setError(ex.getMessage());
+    return new ResponseEntity<>(errorDto, HttpStatus.BAD_REQUEST);
+  }
+
+  // Logged without the stack trace: rejections come in bursts while a bulkhead is saturated
+  @ExceptionHandler(BulkheadFullException.class)
+  public ResponseEntity<ErrorDto> handleBulkheadFullException(BulkheadFullException ex) {
+    log.warn("Caught BulkheadFullException: {}", ex.getMessage());
+    ErrorDto errorDto = new ErrorDto();
+    errorDto.setError("The service is busy, please retry");
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(errorDto);
+  }
+
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<ErrorDto> handleMethodArgumentNotValidException(
       MethodArgumentNotValidException ex
@@ -1,53 +1,178 @@
 package com.capstone.tickets.controllers;
 
+import com.capstone.tickets.domain.ContentVersion;
+import com.capstone.tickets.domain.CursorPage;
+import com.capstone.tickets.domain.PublishedEventFilter;
+import com.capstone.tickets.domain.dtos.EventAvailabilityResponseDto;
+import com.capstone.tickets.domain.dtos.EventSuggestionResponseDto;
 import com.capstone.tickets.domain.dtos.GetPublishedEventDetailsResponseDto;
 import com.capstone.tickets.domain.dtos.ListPublishedEventResponseDto;
-import com.capstone.tickets.domain.entities.Event;
+import com.capstone.tickets.domain.dtos.PublishedEventFacetsResponseDto;
+import com.capstone.tickets.exceptions.InvalidRequestException;
+import com.capstone.tickets.mappers.AvailabilityMapper;
 import com.capstone.tickets.mappers.EventMapper;
+import com.capstone.tickets.services.AvailabilityStreamService;
 import com.capstone.tickets.services.EventService;
+import com.capstone.tickets.services.PublishedEventService;
+import com.capstone.tickets.services.TicketAvailabilityService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping(path = "/api/v1/published-events")
 @RequiredArgsConstructor
 public class PublishedEventController {
 
+  private static final int MAX_AVAILABILITY_IDS = 100;
+
   private final EventService eventService;
+  private final PublishedEventService publishedEventService;
+  private final AvailabilityStreamService availabilityStreamService;
   private final EventMapper eventMapper;
+  private final TicketAvailabilityService ticketAvailabilityService;
+  private final AvailabilityMapper availabilityMapper;
+
+  /**
+   * How long clients and CDNs may reuse a response before revalidating it with the ETag.
+   */
+  @Value("${app.published-events.http-max-age:0s}")
+  private Duration httpMaxAge;
 
   @GetMapping
   public ResponseEntity<Page<ListPublishedEventResponseDto>> listPublishedEvents(
       @RequestParam(required = false) String q,
-      Pageable pageable) {
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startsAfter,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endsBefore,
+      @RequestParam(required = false) String venue,
+      @RequestParam(required = false) Double minPrice,
+      @RequestParam(required = false) Double maxPrice,
+      Pageable pageable,
+      WebRequest request) {
 
-    Page<Event> events;
-    if (null != q && !q.trim().isEmpty()) {
-      events = eventService.searchPublishedEvents(q, pageable);
-    } else {
-      events = eventService.listPublishedEvents(pageable);
-    }
+    // The cached page and the search index are only used while they were built at this version
+    ContentVersion listingVersion = publishedEventService.getPublishedListingVersion();
+    return conditional(request, listingVersion, () -> {
+      // Free-text search takes precedence; the facet filters apply to browsing
+      if (null != q && !q.trim().isEmpty()) {
+        return eventService.searchPublishedEvents(q, pageable, listingVersion)
+            .map(eventMapper::toListPublishedEventResponseDto);
+      }
+      PublishedEventFilter filter =
+          new PublishedEventFilter(startsAfter, endsBefore, venue, minPrice, maxPrice);
+      if (filter.isEmpty()) {
+        return publishedEventService.listPublishedEvents(pageable, listingVersion);
+      }
+      return eventService.listPublishedEvents(filter, pageable)
+          .map(eventMapper::toListPublishedEventResponseDto);
+    });
+  }
 
-    return ResponseEntity.ok(
-        events.map(eventMapper::toListPublishedEventResponseDto)
+  @GetMapping(path = "/facets")
+  public ResponseEntity<PublishedEventFacetsResponseDto> getPublishedEventFacets(
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startsAfter,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endsBefore,
+      @RequestParam(required = false) String venue,
+      @RequestParam(required = false) Double minPrice,
+      @RequestParam(required = false) Double maxPrice,
+      WebRequest request) {
+    PublishedEventFilter filter =
+        new PublishedEventFilter(startsAfter, endsBefore, venue, minPrice, maxPrice);
+    return conditional(request, publishedEventService.getPublishedListingVersion(), () ->
+        eventMapper.toPublishedEventFacetsResponseDto(eventService.getPublishedEventFacets(filter))
+    );
+  }
+
+  @GetMapping(path = "/scroll")
+  public ResponseEntity<CursorPage<ListPublishedEventResponseDto>> scrollPublishedEvents(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size,
+      WebRequest request) {
+    return conditional(request, publishedEventService.getPublishedListingVersion(), () ->
+        eventService.scrollPublishedEvents(cursor, size)
+            .map(eventMapper::toListPublishedEventResponseDto)
+    );
+  }
+
+  @GetMapping(path = "/suggest")
+  public ResponseEntity<List<EventSuggestionResponseDto>> suggestPublishedEvents(
+      @RequestParam String q,
+      @RequestParam(defaultValue = "8") int limit,
+      WebRequest request) {
+    return conditional(request, publishedEventService.getPublishedListingVersion(), () ->
+        eventService.suggestPublishedEvents(q, limit).stream()
+            .map(eventMapper::toEventSuggestionResponseDto)
+            .toList()
     );
   }
 
   @GetMapping(path = "/{eventId}")
   public ResponseEntity<GetPublishedEventDetailsResponseDto> getPublishedEventDetails(
-      @PathVariable UUID eventId
+      @PathVariable UUID eventId,
+      WebRequest request
   ) {
-    return eventService.getPublishedEvent(eventId)
-        .map(eventMapper::toGetPublishedEventDetailsResponseDto)
-        .map(ResponseEntity::ok)
+    return publishedEventService.getPublishedEventVersion(eventId)
+        .map(version -> conditional(request, version, () ->
+            publishedEventService.getPublishedEventDetails(eventId, version).orElse(null)))
         .orElse(ResponseEntity.notFound().build());
   }
+
+  @GetMapping(path = "/availability")
+  public ResponseEntity<List<EventAvailabilityResponseDto>> getAvailability(
+      @RequestParam List<UUID> ids) {
+    if (ids.size() > MAX_AVAILABILITY_IDS) {
+      throw new InvalidRequestException(
+          String.format("At most %d event ids can be requested at once", MAX_AVAILABILITY_IDS));
+    }
+    return ResponseEntity.ok(
+        ticketAvailabilityService.getPublishedAvailability(Set.copyOf(ids)).values().stream()
+            .map(availabilityMapper::toEventAvailabilityResponseDto)
+            .toList()
+    );
+  }
+
+  @GetMapping(path = "/{eventId}/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public ResponseEntity<SseEmitter> streamAvailability(@PathVariable UUID eventId) {
+    if (!eventService.isPublished(eventId)) {
+      return ResponseEntity.notFound().build();
+    }
+    return ResponseEntity.ok(availabilityStreamService.subscribe(eventId));
+  }
+
+  /**
+   * Answers 304 from the version lookup alone when the client's If-None-Match or
+   * If-Modified-Since still matches; the body is only built on a miss. The ETag and
+   * Last-Modified headers themselves are written by checkNotModified.
+   */
+  private <T> ResponseEntity<T> conditional(WebRequest request, ContentVersion version,
+      Supplier<T> body) {
+    CacheControl cacheControl = CacheControl.maxAge(httpMaxAge).cachePublic().mustRevalidate();
+    if (request.checkNotModified(version.eTag(), version.lastModifiedMillis())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+    }
+    T content = body.get();
+    if (null == content) {
+      return ResponseEntity.notFound().build();
+    }
+    return ResponseEntity.ok().cacheControl(cacheControl).body(content);
+  }
 }
@@ -29,10 +29,10 @@ public class TicketValidationController {
     TicketValidation ticketValidation;
     if(TicketValidationMethod.MANUAL.equals(method)) {
       ticketValidation = ticketValidationService.validateTicketManually(
-          ticketValidationRequestDto.getId());
+          ticketValidationRequestDto.getId(), ticketValidationRequestDto.getEventId());
     } else {
       ticketValidation = ticketValidationService.validateTicketByQrCode(
-          ticketValidationRequestDto.getId()
+          ticketValidationRequestDto.getId(), ticketValidationRequestDto.getEventId()
       );
     }
     return ResponseEntity.ok(
@@ -0,0 +1,13 @@
+package com.capstone.tickets.domain;
+
+/**
+ * Rows moved to the archive tables by one archival batch.
+ */
+public record ArchivedChunk(int tickets, int qrCodes, int validations) {
+
+  public static final ArchivedChunk EMPTY = new ArchivedChunk(0, 0, 0);
+
+  public boolean isEmpty() {
+    return 0 == tickets;
+  }
+}
@@ -0,0 +1,27 @@
+package com.capstone.tickets.domain;
+
+import com.capstone.tickets.domain.projections.ContentVersionView;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import org.springframework.util.DigestUtils;
+
+/**
+ * HTTP validators for a response, derived from the newest {@code updatedAt} it depends on and
+ * the number of rows behind it (so deletions, which leave no timestamp behind, still change the
+ * ETag). The listing and event details use their version counters in place of the row count.
+ */
+public record ContentVersion(String eTag, long lastModifiedMillis) {
+
+  public static final String LISTING_SCOPE = "published-events";
+
+  public static ContentVersion of(String scope, ContentVersionView view) {
+    LocalDateTime lastModified = view.getLastModified();
+    String fingerprint = scope + '|' + lastModified + '|' + view.getRowCount();
+    String eTag = "W/\"" + DigestUtils.md5DigestAsHex(fingerprint.getBytes(StandardCharsets.UTF_8)) + '"';
+    long lastModifiedMillis = null == lastModified
+        ? -1
+        : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    return new ContentVersion(eTag, lastModifiedMillis);
+  }
+}
@@ -0,0 +1,26 @@
+package com.capstone.tickets.domain;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page of a keyset-paginated listing. {@code nextCursor} is null on the last page.
+ */
+public record CursorPage<T>(List<T> content, String nextCursor) {
+
+  /**
+   * Builds a page from a query that fetched one row more than {@code limit}, the extra row only
+   * signalling that another page exists.
+   */
+  public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, String> cursorOf) {
+    if (rows.size() <= limit) {
+      return new CursorPage<>(rows, null);
+    }
+    List<T> content = rows.subList(0, limit);
+    return new CursorPage<>(content, cursorOf.apply(content.get(limit - 1)));
+  }
+
+  public <R> CursorPage<R> map(Function<T, R> mapper) {
+    return new CursorPage<>(content.stream().map(mapper).toList(), nextCursor);
+  }
+}
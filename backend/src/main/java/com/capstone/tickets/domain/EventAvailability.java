@@ -0,0 +1,46 @@
+package com.capstone.tickets.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of tickets sold per ticket type of one event. Purchases produce a new
+ * snapshot via {@link #withPurchase(UUID, int)} rather than mutating this one.
+ */
+public record EventAvailability(UUID eventId, Map<UUID, TicketTypeAvailability> ticketTypes,
+                                long totalSold) {
+
+  public record TicketTypeAvailability(Integer totalAvailable, long sold) {
+
+    /**
+     * Tickets left, or null when the ticket type has no limit.
+     */
+    public Integer remaining() {
+      if (null == totalAvailable) {
+        return null;
+      }
+      return (int) Math.max(0, totalAvailable - sold);
+    }
+
+    public boolean soldOut() {
+      return null != totalAvailable && sold >= totalAvailable;
+    }
+  }
+
+  public Integer remaining(UUID ticketTypeId) {
+    TicketTypeAvailability availability = ticketTypes.get(ticketTypeId);
+    return null == availability ? null : availability.remaining();
+  }
+
+  public EventAvailability withPurchase(UUID ticketTypeId, int quantity) {
+    TicketTypeAvailability current = ticketTypes.get(ticketTypeId);
+    if (null == current) {
+      return this;
+    }
+    Map<UUID, TicketTypeAvailability> updated = new HashMap<>(ticketTypes);
+    updated.put(ticketTypeId,
+        new TicketTypeAvailability(current.totalAvailable(), current.sold() + quantity));
+    return new EventAvailability(eventId, Map.copyOf(updated), totalSold + quantity);
+  }
+}
@@ -0,0 +1,34 @@
+package com.capstone.tickets.domain;
+
+import com.capstone.tickets.exceptions.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last event of a page in {@code (createdAt DESC, id DESC)} order, exchanged
+ * with clients as an opaque token.
+ */
+public record EventCursor(LocalDateTime createdAt, UUID id) {
+
+  private static final String SEPARATOR = "|";
+
+  public String encode() {
+    String raw = createdAt + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static EventCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int separator = raw.indexOf(SEPARATOR);
+      return new EventCursor(
+          LocalDateTime.parse(raw.substring(0, separator)),
+          UUID.fromString(raw.substring(separator + 1)));
+    } catch (RuntimeException ex) {
+      throw new InvalidCursorException(String.format("Invalid cursor '%s'", token), ex);
+    }
+  }
+}
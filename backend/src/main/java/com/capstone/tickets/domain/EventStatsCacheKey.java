@@ -0,0 +1,6 @@
+package com.capstone.tickets.domain;
+
+import java.util.UUID;
+
+public record EventStatsCacheKey(UUID organizerId, UUID eventId) {
+}
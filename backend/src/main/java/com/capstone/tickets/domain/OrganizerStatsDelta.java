@@ -0,0 +1,45 @@
+package com.capstone.tickets.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A signed change to an organizer's dashboard counters.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrganizerStatsDelta {
+
+  private long totalEvents;
+  private long publishedEvents;
+  private long draftEvents;
+  private long totalTicketTypes;
+  private long totalTicketsAvailable;
+  private long totalTicketsSold;
+  private double totalRevenue;
+  private long totalAttendances;
+
+  public OrganizerStatsDelta minus(OrganizerStatsDelta other) {
+    return new OrganizerStatsDelta(
+        totalEvents - other.totalEvents,
+        publishedEvents - other.publishedEvents,
+        draftEvents - other.draftEvents,
+        totalTicketTypes - other.totalTicketTypes,
+        totalTicketsAvailable - other.totalTicketsAvailable,
+        totalTicketsSold - other.totalTicketsSold,
+        totalRevenue - other.totalRevenue,
+        totalAttendances - other.totalAttendances);
+  }
+
+  public OrganizerStatsDelta plus(OrganizerStatsDelta other) {
+    return minus(other.negate());
+  }
+
+  public OrganizerStatsDelta negate() {
+    return new OrganizerStatsDelta().minus(this);
+  }
+}
@@ -0,0 +1,16 @@
+package com.capstone.tickets.domain;
+
+import java.util.List;
+
+public record PublishedEventFacets(List<VenueCount> venues, List<PriceBandCount> priceBands) {
+
+  public record VenueCount(String venue, long count) {
+  }
+
+  /**
+   * Events with at least one ticket type priced in {@code [minPrice, maxPrice)}; a null
+   * {@code maxPrice} leaves the band open-ended.
+   */
+  public record PriceBandCount(double minPrice, Double maxPrice, long count) {
+  }
+}
@@ -0,0 +1,25 @@
+package com.capstone.tickets.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional filters for browsing published events. Null fields do not constrain the result. The
+ * price range is half-open, {@code [minPrice, maxPrice)}, like the facet price bands, so a band's
+ * bounds select exactly the events it counted.
+ */
+public record PublishedEventFilter(LocalDateTime startsAfter, LocalDateTime endsBefore,
+                                   String venue, Double minPrice, Double maxPrice) {
+
+  public boolean isEmpty() {
+    return null == startsAfter && null == endsBefore && (null == venue || venue.isBlank())
+        && null == minPrice && null == maxPrice;
+  }
+
+  public PublishedEventFilter withoutVenue() {
+    return new PublishedEventFilter(startsAfter, endsBefore, null, minPrice, maxPrice);
+  }
+
+  public PublishedEventFilter withoutPriceRange() {
+    return new PublishedEventFilter(startsAfter, endsBefore, venue, null, null);
+  }
+}
@@ -0,0 +1,12 @@
+package com.capstone.tickets.domain;
+
+/**
+ * A cached response body together with the validators it was built under, so a body is only
+ * served with the ETag it belongs to.
+ */
+public record VersionedContent<T>(ContentVersion version, T content) {
+
+  public boolean isAt(ContentVersion current) {
+    return version.equals(current);
+  }
+}
@@ -0,0 +1,17 @@
+package com.capstone.tickets.domain.dtos;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventAvailabilityResponseDto {
+
+  private UUID eventId;
+  private List<TicketTypeAvailabilityResponseDto> ticketTypes = new ArrayList<>();
+}
@@ -0,0 +1,19 @@
+package com.capstone.tickets.domain.dtos;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventSalesBucketResponseDto {
+
+  private LocalDateTime bucketStart;
+  private UUID ticketTypeId;
+  private long ticketsSold;
+  private double revenue;
+  private long checkIns;
+}
@@ -0,0 +1,25 @@
+package com.capstone.tickets.domain.dtos;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetEventStatsResponseDto {
+
+  private UUID id;
+  private String name;
+  private long totalAvailable;
+  private long ticketsSold;
+  private double revenue;
+  private long checkIns;
+  @Builder.Default
+  private List<GetEventStatsTicketTypeResponseDto> ticketTypes = new ArrayList<>();
+}
@@ -0,0 +1,24 @@
+package com.capstone.tickets.domain.dtos;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetEventStatsTicketTypeResponseDto {
+
+  private UUID id;
+  private String name;
+  private Double price;
+  private Integer totalAvailable;
+  private long ticketsSold;
+  private Long remaining;
+  private Double sellThrough;
+  private double revenue;
+  private long checkIns;
+}
@@ -5,10 +5,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 public class GetPublishedEventDetailsResponseDto {
@@ -18,5 +20,6 @@ public class GetPublishedEventDetailsResponseDto {
   private LocalDateTime start;
   private LocalDateTime end;
   private String venue;
+  @Builder.Default
   private List<GetPublishedEventDetailsTicketTypesResponseDto> ticketTypes = new ArrayList<>();
 }
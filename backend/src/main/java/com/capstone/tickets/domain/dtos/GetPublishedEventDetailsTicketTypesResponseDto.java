@@ -2,10 +2,12 @@ package com.capstone.tickets.domain.dtos;
 
 import java.util.UUID;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 public class GetPublishedEventDetailsTicketTypesResponseDto {
@@ -14,4 +16,5 @@ public class GetPublishedEventDetailsTicketTypesResponseDto {
   private String name;
   private Double price;
   private String description;
+  private Integer remaining;
 }
@@ -0,0 +1,15 @@
+package com.capstone.tickets.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PriceBandFacetResponseDto {
+
+  private double minPrice;
+  private Double maxPrice;
+  private long count;
+}
@@ -0,0 +1,16 @@
+package com.capstone.tickets.domain.dtos;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PublishedEventFacetsResponseDto {
+
+  private List<VenueFacetResponseDto> venues = new ArrayList<>();
+  private List<PriceBandFacetResponseDto> priceBands = new ArrayList<>();
+}
@@ -0,0 +1,16 @@
+package com.capstone.tickets.domain.dtos;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TicketTypeAvailabilityResponseDto {
+
+  private UUID ticketTypeId;
+  private Integer remaining;
+  private boolean soldOut;
+}
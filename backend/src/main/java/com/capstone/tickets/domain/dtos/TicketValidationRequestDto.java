@@ -12,4 +12,6 @@ import lombok.NoArgsConstructor;
 public class TicketValidationRequestDto {
   private UUID id;
   private TicketValidationMethod method;
+  // Optional: the event being checked in, so the lookup reads only its partition
+  private UUID eventId;
 }
@@ -0,0 +1,14 @@
+package com.capstone.tickets.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class VenueFacetResponseDto {
+
+  private String venue;
+  private long count;
+}
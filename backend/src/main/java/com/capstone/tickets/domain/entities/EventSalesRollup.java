@@ -0,0 +1,74 @@
+package com.capstone.tickets.domain.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Sales and check-ins of one ticket type within one time bucket. Rows are only ever written
+ * through the upsert in {@code EventSalesRollupRepository}.
+ */
+@Entity
+@Table(name = "event_sales_rollups")
+@IdClass(EventSalesRollupId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventSalesRollup {
+
+  @Id
+  @Column(name = "event_id", nullable = false, updatable = false)
+  private UUID eventId;
+
+  @Id
+  @Column(name = "ticket_type_id", nullable = false, updatable = false)
+  private UUID ticketTypeId;
+
+  @Id
+  @Column(name = "granularity", nullable = false, updatable = false)
+  @Enumerated(EnumType.STRING)
+  private RollupGranularityEnum granularity;
+
+  @Id
+  @Column(name = "bucket_start", nullable = false, updatable = false)
+  private LocalDateTime bucketStart;
+
+  @Column(name = "tickets_sold", nullable = false)
+  private long ticketsSold;
+
+  @Column(name = "revenue", nullable = false)
+  private double revenue;
+
+  @Column(name = "check_ins", nullable = false)
+  private long checkIns;
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    EventSalesRollup that = (EventSalesRollup) o;
+    return Objects.equals(eventId, that.eventId) && Objects.equals(ticketTypeId,
+        that.ticketTypeId) && granularity == that.granularity && Objects.equals(bucketStart,
+        that.bucketStart);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(eventId, ticketTypeId, granularity, bucketStart);
+  }
+}
@@ -0,0 +1,19 @@
+package com.capstone.tickets.domain.entities;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventSalesRollupId implements Serializable {
+
+  private UUID eventId;
+  private UUID ticketTypeId;
+  private RollupGranularityEnum granularity;
+  private LocalDateTime bucketStart;
+}
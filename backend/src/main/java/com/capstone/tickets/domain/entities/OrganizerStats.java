@@ -0,0 +1,78 @@
+package com.capstone.tickets.domain.entities;
+
+import com.capstone.tickets.domain.projections.OrganizerSummaryView;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Pre-aggregated dashboard counters for a single organizer. Rows are only ever written through
+ * the atomic statements in {@code OrganizerStatsRepository}, never through entity updates.
+ */
+@Entity
+@Table(name = "organizer_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrganizerStats implements OrganizerSummaryView {
+
+  @Id
+  @Column(name = "organizer_id", nullable = false, updatable = false)
+  private UUID organizerId;
+
+  @Column(name = "total_events", nullable = false)
+  private long totalEvents;
+
+  @Column(name = "published_events", nullable = false)
+  private long publishedEvents;
+
+  @Column(name = "draft_events", nullable = false)
+  private long draftEvents;
+
+  @Column(name = "total_ticket_types", nullable = false)
+  private long totalTicketTypes;
+
+  @Column(name = "total_tickets_available", nullable = false)
+  private long totalTicketsAvailable;
+
+  @Column(name = "total_tickets_sold", nullable = false)
+  private long totalTicketsSold;
+
+  @Column(name = "total_revenue", nullable = false)
+  private double totalRevenue;
+
+  @Column(name = "total_attendances", nullable = false)
+  private long totalAttendances;
+
+  @Column(name = "created_at", updatable = false, nullable = false)
+  private LocalDateTime createdAt;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    OrganizerStats that = (OrganizerStats) o;
+    return Objects.equals(organizerId, that.organizerId) && Objects.equals(updatedAt,
+        that.updatedAt);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(organizerId, updatedAt);
+  }
+}
@@ -8,7 +8,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.UUID;
@@ -17,8 +21,10 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.PartitionKey;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(name = "qr_codes")
@@ -27,7 +33,7 @@ import org.springframework.data.annotation.LastModifiedDate;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-public class QrCode {
+public class QrCode implements Persistable<UUID> {
 
   @Id
   @Column(name = "id", nullable = false, updatable = false)
@@ -44,6 +50,10 @@ public class QrCode {
   @JoinColumn(name = "ticket_id")
   private Ticket ticket;
 
+  @PartitionKey
+  @Column(name = "event_id", nullable = false, updatable = false)
+  private UUID eventId;
+
   @CreatedDate
   @Column(name = "created_at", updatable = false, nullable = false)
   private LocalDateTime createdAt;
@@ -52,6 +62,25 @@ public class QrCode {
   @Column(name = "updated_at", nullable = false)
   private LocalDateTime updatedAt;
 
+  // The id is assigned before saving (it is encoded in the QR image), so without this flag
+  // save() would merge and issue a SELECT before every insert, breaking insert batching
+  @Transient
+  @Builder.Default
+  private boolean isNew = true;
+
+  @PrePersist
+  void assignEventId() {
+    if (null == eventId && null != ticket) {
+      eventId = ticket.getEventId();
+    }
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    this.isNew = false;
+  }
+
   @Override
   public boolean equals(Object o) {
       if (o == null || getClass() != o.getClass()) {
@@ -0,0 +1,22 @@
+package com.capstone.tickets.domain.entities;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public enum RollupGranularityEnum {
+  MINUTE(ChronoUnit.MINUTES), HOUR(ChronoUnit.HOURS), DAY(ChronoUnit.DAYS);
+
+  private final ChronoUnit unit;
+
+  RollupGranularityEnum(ChronoUnit unit) {
+    this.unit = unit;
+  }
+
+  public LocalDateTime bucketStart(LocalDateTime timestamp) {
+    return timestamp.truncatedTo(unit);
+  }
+
+  public long bucketsBetween(LocalDateTime from, LocalDateTime to) {
+    return unit.between(bucketStart(from), to) + 1;
+  }
+}
@@ -6,12 +6,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -23,6 +22,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.PartitionKey;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 
@@ -37,13 +37,18 @@ public class Ticket {
 
   @Id
   @Column(name = "id", nullable = false, updatable = false)
-  @GeneratedValue(strategy = GenerationType.UUID)
+  @TimeOrderedUuid
   private UUID id;
 
   @Column(name = "status", nullable = false)
   @Enumerated(EnumType.STRING)
   private TicketStatusEnum status;
 
+  // Partition key, copied from the ticket type's event; see V5__partition_tickets_by_event.sql
+  @PartitionKey
+  @Column(name = "event_id", nullable = false, updatable = false)
+  private UUID eventId;
+
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "ticket_type_id")
   private TicketType ticketType;
@@ -70,6 +75,13 @@ public class Ticket {
   @Column(name = "updated_at", nullable = false)
   private LocalDateTime updatedAt;
 
+  @PrePersist
+  void assignEventId() {
+    if (null == eventId && null != ticketType) {
+      eventId = ticketType.getEvent().getId();
+    }
+  }
+
   @Override
   public boolean equals(Object o) {
     if (o == null || getClass() != o.getClass()) {
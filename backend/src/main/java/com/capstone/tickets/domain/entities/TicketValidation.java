@@ -5,11 +5,10 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -19,6 +18,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.PartitionKey;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 
@@ -33,7 +33,7 @@ public class TicketValidation {
 
   @Id
   @Column(name = "id", nullable = false, updatable = false)
-  @GeneratedValue(strategy = GenerationType.UUID)
+  @TimeOrderedUuid
   private UUID id;
 
   @Column(name = "status", nullable = false)
@@ -48,6 +48,10 @@ public class TicketValidation {
   @JoinColumn(name = "ticket_id")
   private Ticket ticket;
 
+  @PartitionKey
+  @Column(name = "event_id", nullable = false, updatable = false)
+  private UUID eventId;
+
   @CreatedDate
   @Column(name = "created_at", updatable = false, nullable = false)
   private LocalDateTime createdAt;
@@ -56,6 +60,13 @@ public class TicketValidation {
   @Column(name = "updated_at", nullable = false)
   private LocalDateTime updatedAt;
 
+  @PrePersist
+  void assignEventId() {
+    if (null == eventId && null != ticket) {
+      eventId = ticket.getEventId();
+    }
+  }
+
   @Override
   public boolean equals(Object o) {
     if (o == null || getClass() != o.getClass()) {
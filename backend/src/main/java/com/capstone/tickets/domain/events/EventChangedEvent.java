@@ -0,0 +1,9 @@
+package com.capstone.tickets.domain.events;
+
+import java.util.UUID;
+
+/**
+ * Published when an organizer creates or updates an event, including its ticket types.
+ */
+public record EventChangedEvent(UUID eventId, UUID organizerId) {
+}
@@ -0,0 +1,6 @@
+package com.capstone.tickets.domain.events;
+
+import java.util.UUID;
+
+public record EventDeletedEvent(UUID eventId, UUID organizerId) {
+}
@@ -0,0 +1,7 @@
+package com.capstone.tickets.domain.events;
+
+import java.util.UUID;
+
+public record TicketPurchasedEvent(UUID eventId, UUID organizerId, UUID ticketTypeId,
+                                   int quantity) {
+}
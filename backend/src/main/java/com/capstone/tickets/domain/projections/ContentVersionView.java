@@ -0,0 +1,10 @@
+package com.capstone.tickets.domain.projections;
+
+import java.time.LocalDateTime;
+
+public interface ContentVersionView {
+
+  LocalDateTime getLastModified();
+
+  long getRowCount();
+}
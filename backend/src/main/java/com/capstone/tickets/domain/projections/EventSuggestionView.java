@@ -0,0 +1,12 @@
+package com.capstone.tickets.domain.projections;
+
+import java.util.UUID;
+
+public interface EventSuggestionView {
+
+  UUID getId();
+
+  String getName();
+
+  String getVenue();
+}
@@ -0,0 +1,24 @@
+package com.capstone.tickets.domain.projections;
+
+/**
+ * Lifetime dashboard totals for an organizer, either read from stored counters or computed on
+ * the fly.
+ */
+public interface OrganizerSummaryView {
+
+  long getTotalEvents();
+
+  long getPublishedEvents();
+
+  long getDraftEvents();
+
+  long getTotalTicketTypes();
+
+  long getTotalTicketsAvailable();
+
+  long getTotalTicketsSold();
+
+  double getTotalRevenue();
+
+  long getTotalAttendances();
+}
@@ -0,0 +1,21 @@
+package com.capstone.tickets.domain.projections;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Closed projection of the columns shown in the public listing, selected without hydrating
+ * {@code Event} entities.
+ */
+public interface PublishedEventSummaryView {
+
+  UUID getId();
+
+  String getName();
+
+  LocalDateTime getStart();
+
+  LocalDateTime getEnd();
+
+  String getVenue();
+}
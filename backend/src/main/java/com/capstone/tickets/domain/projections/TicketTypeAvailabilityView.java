@@ -0,0 +1,14 @@
+package com.capstone.tickets.domain.projections;
+
+import java.util.UUID;
+
+public interface TicketTypeAvailabilityView {
+
+  UUID getEventId();
+
+  UUID getTicketTypeId();
+
+  Integer getTotalAvailable();
+
+  long getSold();
+}
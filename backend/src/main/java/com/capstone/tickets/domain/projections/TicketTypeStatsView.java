@@ -0,0 +1,28 @@
+package com.capstone.tickets.domain.projections;
+
+import java.util.UUID;
+
+/**
+ * One row per ticket type of an event. The ticket type columns are null for an event without
+ * ticket types.
+ */
+public interface TicketTypeStatsView {
+
+  UUID getEventId();
+
+  String getEventName();
+
+  UUID getTicketTypeId();
+
+  String getTicketTypeName();
+
+  Double getPrice();
+
+  Integer getTotalAvailable();
+
+  long getTicketsSold();
+
+  double getRevenue();
+
+  long getCheckIns();
+}
@@ -0,0 +1,24 @@
+package com.capstone.tickets.exceptions;
+
+public class BulkheadFullException extends EventTicketException {
+
+  public BulkheadFullException() {
+  }
+
+  public BulkheadFullException(String message) {
+    super(message);
+  }
+
+  public BulkheadFullException(String message, Throwable cause) {
+    super(message, cause);
+  }
+
+  public BulkheadFullException(Throwable cause) {
+    super(cause);
+  }
+
+  public BulkheadFullException(String message, Throwable cause, boolean enableSuppression,
+      boolean writableStackTrace) {
+    super(message, cause, enableSuppression, writableStackTrace);
+  }
+}
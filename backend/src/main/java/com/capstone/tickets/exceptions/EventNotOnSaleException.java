@@ -0,0 +1,24 @@
+package com.capstone.tickets.exceptions;
+
+public class EventNotOnSaleException extends EventTicketException {
+
+  public EventNotOnSaleException() {
+  }
+
+  public EventNotOnSaleException(String message) {
+    super(message);
+  }
+
+  public EventNotOnSaleException(String message, Throwable cause) {
+    super(message, cause);
+  }
+
+  public EventNotOnSaleException(Throwable cause) {
+    super(cause);
+  }
+
+  public EventNotOnSaleException(String message, Throwable cause, boolean enableSuppression,
+      boolean writableStackTrace) {
+    super(message, cause, enableSuppression, writableStackTrace);
+  }
+}
@@ -0,0 +1,28 @@
+package com.capstone.tickets.exceptions;
+
+/**
+ * A request parameter that is well-formed but not acceptable, such as an inverted range or too
+ * many ids. The message is returned to the client.
+ */
+public class InvalidRequestException extends EventTicketException {
+
+  public InvalidRequestException() {
+  }
+
+  public InvalidRequestException(String message) {
+    super(message);
+  }
+
+  public InvalidRequestException(String message, Throwable cause) {
+    super(message, cause);
+  }
+
+  public InvalidRequestException(Throwable cause) {
+    super(cause);
+  }
+
+  public InvalidRequestException(String message, Throwable cause, boolean enableSuppression,
+      boolean writableStackTrace) {
+    super(message, cause, enableSuppression, writableStackTrace);
+  }
+}
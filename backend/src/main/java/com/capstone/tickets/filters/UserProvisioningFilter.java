@@ -1,7 +1,10 @@
 package com.capstone.tickets.filters;
 
+import com.capstone.tickets.bulkheads.BulkheadRegistry;
+import com.capstone.tickets.bulkheads.BulkheadTypeEnum;
 import com.capstone.tickets.domain.entities.User;
 import com.capstone.tickets.domain.enums.Role;
+import com.capstone.tickets.exceptions.BulkheadFullException;
 import com.capstone.tickets.repositories.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -12,6 +15,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -23,6 +28,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class UserProvisioningFilter extends OncePerRequestFilter {
 
   private final UserRepository userRepository;
+  private final BulkheadRegistry bulkheadRegistry;
 
   @Override
   protected void doFilterInternal(
@@ -49,21 +55,19 @@ public class UserProvisioningFilter extends OncePerRequestFilter {
         userId = UUID.nameUUIDFromBytes(subject.getBytes());
       }
 
+      // Known users pass without a permit; only a first login, which inserts the user, takes an
+      // account permit. The filter runs before the controller, so a saturated bulkhead is
+      // answered here rather than by GlobalExceptionHandler
       if (!userRepository.existsById(userId)) {
-
-        User user = new User();
-        user.setId(userId);
-        user.setName(jwt.getClaimAsString("preferred_username"));
-        user.setEmail(jwt.getClaimAsString("email"));
-
-        // Extract role from JWT attributes
-        Role role = extractRoleFromJwt(jwt);
-        user.setRole(role);
-
-        user.setCreatedAt(LocalDateTime.now());
-        user.setUpdatedAt(LocalDateTime.now());
-
-        userRepository.save(user);
+        User user = newUser(userId, jwt);
+        try {
+          bulkheadRegistry.call(BulkheadTypeEnum.ACCOUNT, () -> userRepository.save(user));
+        } catch (BulkheadFullException ex) {
+          response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+          response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(),
+              "The service is busy, please retry");
+          return;
+        }
       } else {
         // User already exists - this means they were registered via the custom form
         // The role is already set in the database, so we don't need to do anything
@@ -75,6 +79,21 @@ public class UserProvisioningFilter extends OncePerRequestFilter {
     filterChain.doFilter(request, response);
   }
 
+  private User newUser(UUID userId, Jwt jwt) {
+    User user = new User();
+    user.setId(userId);
+    user.setName(jwt.getClaimAsString("preferred_username"));
+    user.setEmail(jwt.getClaimAsString("email"));
+
+    // Extract role from JWT attributes
+    Role role = extractRoleFromJwt(jwt);
+    user.setRole(role);
+
+    user.setCreatedAt(LocalDateTime.now());
+    user.setUpdatedAt(LocalDateTime.now());
+    return user;
+  }
+
   private Role extractRoleFromJwt(Jwt jwt) {
     try {
       // Try to get role from attributes claim
@@ -0,0 +1,51 @@
+package com.capstone.tickets.listeners;
+
+import com.capstone.tickets.domain.EventStatsCacheKey;
+import com.capstone.tickets.domain.dtos.GetEventStatsResponseDto;
+import com.capstone.tickets.domain.dtos.OrganizerDashboardSummaryDto;
+import com.capstone.tickets.domain.events.EventChangedEvent;
+import com.capstone.tickets.domain.events.EventDeletedEvent;
+import com.capstone.tickets.domain.events.TicketPurchasedEvent;
+import com.capstone.tickets.domain.events.TicketValidatedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Drops cached dashboard results once a change affecting the organizer has committed, so the
+ * next poll recomputes them instead of waiting for the TTL.
+ */
+@Component
+@RequiredArgsConstructor
+public class DashboardCacheEvictionListener {
+
+  private final Cache<UUID, OrganizerDashboardSummaryDto> dashboardSummaryCache;
+  private final Cache<EventStatsCacheKey, GetEventStatsResponseDto> dashboardEventStatsCache;
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onEventChanged(EventChangedEvent event) {
+    evict(event.organizerId(), event.eventId());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onEventDeleted(EventDeletedEvent event) {
+    evict(event.organizerId(), event.eventId());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTicketPurchased(TicketPurchasedEvent event) {
+    evict(event.organizerId(), event.eventId());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTicketValidated(TicketValidatedEvent event) {
+    evict(event.organizerId(), event.eventId());
+  }
+
+  private void evict(UUID organizerId, UUID eventId) {
+    dashboardSummaryCache.invalidate(organizerId);
+    dashboardEventStatsCache.invalidate(new EventStatsCacheKey(organizerId, eventId));
+  }
+}
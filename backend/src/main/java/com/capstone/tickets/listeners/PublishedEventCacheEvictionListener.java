@@ -0,0 +1,49 @@
+package com.capstone.tickets.listeners;
+
+import com.capstone.tickets.domain.events.EventChangedEvent;
+import com.capstone.tickets.domain.events.EventDeletedEvent;
+import com.capstone.tickets.domain.events.TicketPurchasedEvent;
+import com.capstone.tickets.services.PublishedEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Drops cached published-event views once an organizer's create, update or delete has
+ * committed, and moves the listing and details versions on as part of that write or purchase.
+ */
+@Component
+@RequiredArgsConstructor
+public class PublishedEventCacheEvictionListener {
+
+  private final PublishedEventService publishedEventService;
+
+  // Inside the write transaction, so every instance sees the new version together with the write
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT,
+      classes = {EventChangedEvent.class, EventDeletedEvent.class})
+  public void beforeEventWriteCommits() {
+    publishedEventService.incrementListingVersion();
+  }
+
+  // Deleted events take their version row with them, so only changes bump it
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+  public void beforeEventChangeCommits(EventChangedEvent event) {
+    publishedEventService.incrementEventVersion(event.eventId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+  public void beforePurchaseCommits(TicketPurchasedEvent event) {
+    publishedEventService.incrementEventVersion(event.eventId());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onEventChanged(EventChangedEvent event) {
+    publishedEventService.evict(event.eventId());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onEventDeleted(EventDeletedEvent event) {
+    publishedEventService.evict(event.eventId());
+  }
+}
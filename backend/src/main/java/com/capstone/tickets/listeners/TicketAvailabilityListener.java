@@ -0,0 +1,41 @@
+package com.capstone.tickets.listeners;
+
+import com.capstone.tickets.domain.events.EventChangedEvent;
+import com.capstone.tickets.domain.events.EventDeletedEvent;
+import com.capstone.tickets.domain.events.TicketPurchasedEvent;
+import com.capstone.tickets.services.AvailabilityStreamService;
+import com.capstone.tickets.services.TicketAvailabilityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Applies committed purchases to the availability snapshots, and drops a snapshot when the
+ * event's ticket types may have changed. Either way, subscribers are pushed the new state.
+ */
+@Component
+@RequiredArgsConstructor
+public class TicketAvailabilityListener {
+
+  private final TicketAvailabilityService ticketAvailabilityService;
+  private final AvailabilityStreamService availabilityStreamService;
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTicketPurchased(TicketPurchasedEvent event) {
+    ticketAvailabilityService.recordPurchase(event.eventId(), event.ticketTypeId(),
+        event.quantity());
+    availabilityStreamService.broadcast(event.eventId());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onEventChanged(EventChangedEvent event) {
+    ticketAvailabilityService.evict(event.eventId());
+    availabilityStreamService.broadcast(event.eventId());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onEventDeleted(EventDeletedEvent event) {
+    ticketAvailabilityService.evict(event.eventId());
+    availabilityStreamService.close(event.eventId());
+  }
+}
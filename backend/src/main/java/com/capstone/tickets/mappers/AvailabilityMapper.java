@@ -0,0 +1,30 @@
+package com.capstone.tickets.mappers;
+
+import com.capstone.tickets.domain.EventAvailability;
+import com.capstone.tickets.domain.EventAvailability.TicketTypeAvailability;
+import com.capstone.tickets.domain.dtos.EventAvailabilityResponseDto;
+import com.capstone.tickets.domain.dtos.TicketTypeAvailabilityResponseDto;
+import java.util.List;
+import java.util.UUID;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface AvailabilityMapper {
+
+  default EventAvailabilityResponseDto toEventAvailabilityResponseDto(
+      EventAvailability availability) {
+    List<TicketTypeAvailabilityResponseDto> ticketTypes = availability.ticketTypes().entrySet()
+        .stream()
+        .map(entry -> toTicketTypeAvailabilityResponseDto(entry.getKey(), entry.getValue()))
+        .toList();
+    return new EventAvailabilityResponseDto(availability.eventId(), ticketTypes);
+  }
+
+  @Mapping(target = "ticketTypeId", source = "ticketTypeId")
+  @Mapping(target = "remaining", expression = "java(availability.remaining())")
+  @Mapping(target = "soldOut", expression = "java(availability.soldOut())")
+  TicketTypeAvailabilityResponseDto toTicketTypeAvailabilityResponseDto(UUID ticketTypeId,
+      TicketTypeAvailability availability);
+}
@@ -2,11 +2,13 @@ package com.capstone.tickets.mappers;
 
 import com.capstone.tickets.domain.CreateEventRequest;
 import com.capstone.tickets.domain.CreateTicketTypeRequest;
+import com.capstone.tickets.domain.PublishedEventFacets;
 import com.capstone.tickets.domain.UpdateEventRequest;
 import com.capstone.tickets.domain.UpdateTicketTypeRequest;
 import com.capstone.tickets.domain.dtos.CreateEventRequestDto;
 import com.capstone.tickets.domain.dtos.CreateEventResponseDto;
 import com.capstone.tickets.domain.dtos.CreateTicketTypeRequestDto;
+import com.capstone.tickets.domain.dtos.EventSuggestionResponseDto;
 import com.capstone.tickets.domain.dtos.GetEventDetailsResponseDto;
 import com.capstone.tickets.domain.dtos.GetEventDetailsTicketTypesResponseDto;
 import com.capstone.tickets.domain.dtos.GetPublishedEventDetailsResponseDto;
@@ -14,12 +16,15 @@ import com.capstone.tickets.domain.dtos.GetPublishedEventDetailsTicketTypesRespo
 import com.capstone.tickets.domain.dtos.ListEventResponseDto;
 import com.capstone.tickets.domain.dtos.ListEventTicketTypeResponseDto;
 import com.capstone.tickets.domain.dtos.ListPublishedEventResponseDto;
+import com.capstone.tickets.domain.dtos.PublishedEventFacetsResponseDto;
 import com.capstone.tickets.domain.dtos.UpdateEventRequestDto;
 import com.capstone.tickets.domain.dtos.UpdateEventResponseDto;
 import com.capstone.tickets.domain.dtos.UpdateTicketTypeRequestDto;
 import com.capstone.tickets.domain.dtos.UpdateTicketTypeResponseDto;
 import com.capstone.tickets.domain.entities.Event;
 import com.capstone.tickets.domain.entities.TicketType;
+import com.capstone.tickets.domain.projections.EventSuggestionView;
+import com.capstone.tickets.domain.projections.PublishedEventSummaryView;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
 
@@ -55,4 +60,10 @@ public interface EventMapper {
       TicketType ticketType);
 
   GetPublishedEventDetailsResponseDto toGetPublishedEventDetailsResponseDto(Event event);
+
+  ListPublishedEventResponseDto toListPublishedEventResponseDto(PublishedEventSummaryView summary);
+
+  EventSuggestionResponseDto toEventSuggestionResponseDto(EventSuggestionView suggestion);
+
+  PublishedEventFacetsResponseDto toPublishedEventFacetsResponseDto(PublishedEventFacets facets);
 }
@@ -0,0 +1,12 @@
+package com.capstone.tickets.mappers;
+
+import com.capstone.tickets.domain.dtos.EventSalesBucketResponseDto;
+import com.capstone.tickets.domain.entities.EventSalesRollup;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface EventSalesRollupMapper {
+
+  EventSalesBucketResponseDto toEventSalesBucketResponseDto(EventSalesRollup rollup);
+}
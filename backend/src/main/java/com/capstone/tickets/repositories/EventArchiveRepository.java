@@ -0,0 +1,29 @@
+package com.capstone.tickets.repositories;
+
+import com.capstone.tickets.domain.ArchivedChunk;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface EventArchiveRepository {
+
+  /**
+   * Completed events that ended before the given time and whose archival has not finished,
+   * oldest first.
+   */
+  List<UUID> findEventIdsPendingArchival(LocalDateTime endedBefore, int limit);
+
+  long countEventsPendingArchival(LocalDateTime endedBefore);
+
+  /**
+   * Moves up to chunkSize of the event's live tickets, with their QR codes and validations, into
+   * the archive tables in one transaction. An empty chunk means no live tickets are left.
+   */
+  ArchivedChunk archiveTicketChunk(UUID eventId, int chunkSize, LocalDateTime now);
+
+  /**
+   * Records the event as archived, unless live tickets are still present (for example locked by
+   * a concurrent chunk); returns whether it was recorded.
+   */
+  boolean markArchived(UUID eventId, LocalDateTime now);
+}
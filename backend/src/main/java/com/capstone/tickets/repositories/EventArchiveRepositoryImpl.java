@@ -0,0 +1,151 @@
+package com.capstone.tickets.repositories;
+
+import com.capstone.tickets.domain.ArchivedChunk;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.transaction.annotation.Transactional;
+
+public class EventArchiveRepositoryImpl implements EventArchiveRepository {
+
+  private static final String PENDING_ARCHIVAL = "FROM events e " +
+      "LEFT JOIN event_archive_progress p ON p.event_id = e.id " +
+      "WHERE e.status = 'COMPLETED' AND e.event_end < :endedBefore AND p.completed_at IS NULL";
+
+  // SKIP LOCKED lets concurrent runs take disjoint chunks instead of waiting on each other
+  private static final String LOCK_TICKET_CHUNK = "SELECT id FROM tickets " +
+      "WHERE event_id = :eventId ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED";
+
+  // Runs before the validations move, while their check-ins are still in the live table
+  private static final String ADD_ARCHIVE_TOTALS = "INSERT INTO ticket_type_archive_totals " +
+      "(ticket_type_id, event_id, tickets_sold, check_ins) " +
+      "SELECT t.ticket_type_id, t.event_id, SUM(t.quantity), COALESCE(SUM(v.check_ins), 0) " +
+      "FROM tickets t " +
+      "LEFT JOIN (SELECT ticket_id, COUNT(*) AS check_ins FROM ticket_validations " +
+      "WHERE event_id = :eventId AND ticket_id IN (:ticketIds) AND status = 'VALID' " +
+      "GROUP BY ticket_id) v ON v.ticket_id = t.id " +
+      "WHERE t.event_id = :eventId AND t.id IN (:ticketIds) AND t.ticket_type_id IS NOT NULL " +
+      "GROUP BY t.ticket_type_id, t.event_id " +
+      "ON CONFLICT (ticket_type_id) DO UPDATE SET " +
+      "tickets_sold = ticket_type_archive_totals.tickets_sold + EXCLUDED.tickets_sold, " +
+      "check_ins = ticket_type_archive_totals.check_ins + EXCLUDED.check_ins";
+
+  private static final String MOVE_VALIDATIONS = "WITH moved AS (" +
+      "DELETE FROM ticket_validations WHERE event_id = :eventId AND ticket_id IN (:ticketIds) " +
+      "RETURNING id, event_id, ticket_id, status, validation_method, created_at) " +
+      "INSERT INTO ticket_validations_archive (id, event_id, ticket_id, status, " +
+      "validation_method, created_at, archived_at) " +
+      "SELECT id, event_id, ticket_id, status, validation_method, created_at, :now FROM moved " +
+      "ON CONFLICT (id) DO NOTHING";
+
+  private static final String MOVE_QR_CODES = "WITH moved AS (" +
+      "DELETE FROM qr_codes WHERE event_id = :eventId AND ticket_id IN (:ticketIds) " +
+      "RETURNING id, event_id, ticket_id, created_at) " +
+      "INSERT INTO qr_codes_archive (id, event_id, ticket_id, status, created_at, archived_at) " +
+      "SELECT id, event_id, ticket_id, 'EXPIRED', created_at, :now FROM moved " +
+      "ON CONFLICT (id) DO NOTHING";
+
+  private static final String MOVE_TICKETS = "WITH moved AS (" +
+      "DELETE FROM tickets WHERE event_id = :eventId AND id IN (:ticketIds) " +
+      "RETURNING id, event_id, ticket_type_id, purchaser_id, status, quantity, created_at) " +
+      "INSERT INTO tickets_archive (id, event_id, ticket_type_id, purchaser_id, status, " +
+      "quantity, created_at, archived_at) " +
+      "SELECT id, event_id, ticket_type_id, purchaser_id, status, quantity, created_at, :now " +
+      "FROM moved ON CONFLICT (id) DO NOTHING";
+
+  private static final String RECORD_PROGRESS = "INSERT INTO event_archive_progress " +
+      "(event_id, tickets_archived, qr_codes_archived, validations_archived, started_at, " +
+      "updated_at) VALUES (:eventId, :tickets, :qrCodes, :validations, :now, :now) " +
+      "ON CONFLICT (event_id) DO UPDATE SET " +
+      "tickets_archived = event_archive_progress.tickets_archived + EXCLUDED.tickets_archived, " +
+      "qr_codes_archived = event_archive_progress.qr_codes_archived + EXCLUDED.qr_codes_archived, " +
+      "validations_archived = event_archive_progress.validations_archived " +
+      "+ EXCLUDED.validations_archived, " +
+      "updated_at = EXCLUDED.updated_at";
+
+  private static final String MARK_ARCHIVED = "INSERT INTO event_archive_progress " +
+      "(event_id, started_at, updated_at, completed_at) " +
+      "SELECT :eventId, :now, :now, :now " +
+      "WHERE NOT EXISTS (SELECT 1 FROM tickets WHERE event_id = :eventId) " +
+      "ON CONFLICT (event_id) DO UPDATE SET " +
+      "updated_at = EXCLUDED.updated_at, completed_at = EXCLUDED.completed_at";
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  @Transactional
+  @SuppressWarnings("unchecked")
+  public List<UUID> findEventIdsPendingArchival(LocalDateTime endedBefore, int limit) {
+    return entityManager.createNativeQuery(
+            "SELECT e.id " + PENDING_ARCHIVAL + " ORDER BY e.event_end LIMIT :limit", UUID.class)
+        .setParameter("endedBefore", endedBefore)
+        .setParameter("limit", limit)
+        .getResultList();
+  }
+
+  @Override
+  @Transactional
+  public long countEventsPendingArchival(LocalDateTime endedBefore) {
+    return ((Number) entityManager.createNativeQuery("SELECT COUNT(*) " + PENDING_ARCHIVAL)
+        .setParameter("endedBefore", endedBefore)
+        .getSingleResult()).longValue();
+  }
+
+  @Override
+  @Transactional
+  @SuppressWarnings("unchecked")
+  public ArchivedChunk archiveTicketChunk(UUID eventId, int chunkSize, LocalDateTime now) {
+    List<UUID> ticketIds = entityManager.createNativeQuery(LOCK_TICKET_CHUNK, UUID.class)
+        .setParameter("eventId", eventId)
+        .setParameter("limit", chunkSize)
+        .getResultList();
+    if (ticketIds.isEmpty()) {
+      return ArchivedChunk.EMPTY;
+    }
+
+    nativeUpdate(ADD_ARCHIVE_TOTALS, "ticket_type_archive_totals")
+        .setParameter("eventId", eventId)
+        .setParameter("ticketIds", ticketIds)
+        .executeUpdate();
+    int validations = move(MOVE_VALIDATIONS, "ticket_validations", eventId, ticketIds, now);
+    int qrCodes = move(MOVE_QR_CODES, "qr_codes", eventId, ticketIds, now);
+    int tickets = move(MOVE_TICKETS, "tickets", eventId, ticketIds, now);
+
+    nativeUpdate(RECORD_PROGRESS, "event_archive_progress")
+        .setParameter("eventId", eventId)
+        .setParameter("tickets", tickets)
+        .setParameter("qrCodes", qrCodes)
+        .setParameter("validations", validations)
+        .setParameter("now", now)
+        .executeUpdate();
+    return new ArchivedChunk(tickets, qrCodes, validations);
+  }
+
+  @Override
+  @Transactional
+  public boolean markArchived(UUID eventId, LocalDateTime now) {
+    return nativeUpdate(MARK_ARCHIVED, "event_archive_progress")
+        .setParameter("eventId", eventId)
+        .setParameter("now", now)
+        .executeUpdate() > 0;
+  }
+
+  private int move(String sql, String table, UUID eventId, List<UUID> ticketIds,
+      LocalDateTime now) {
+    return nativeUpdate(sql, table)
+        .setParameter("eventId", eventId)
+        .setParameter("ticketIds", ticketIds)
+        .setParameter("now", now)
+        .executeUpdate();
+  }
+
+  // Naming the touched table keeps Hibernate from evicting every second-level cache region
+  private Query nativeUpdate(String sql, String table) {
+    return entityManager.createNativeQuery(sql).setHint(HibernateHints.HINT_NATIVE_SPACES, table);
+  }
+}
@@ -0,0 +1,14 @@
+package com.capstone.tickets.repositories;
+
+import com.capstone.tickets.domain.PublishedEventFacets;
+import com.capstone.tickets.domain.PublishedEventFilter;
+
+public interface EventFacetRepository {
+
+  /**
+   * Counts published events matching the filter per venue and per price band. Each facet ignores
+   * its own filter, so the other venues and bands still show how many events selecting them
+   * would return.
+   */
+  PublishedEventFacets findFacets(PublishedEventFilter filter);
+}
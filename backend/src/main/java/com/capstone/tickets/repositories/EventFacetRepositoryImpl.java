@@ -0,0 +1,86 @@
+package com.capstone.tickets.repositories;
+
+import com.capstone.tickets.domain.PublishedEventFacets;
+import com.capstone.tickets.domain.PublishedEventFilter;
+import com.capstone.tickets.domain.PublishedEventFacets.PriceBandCount;
+import com.capstone.tickets.domain.PublishedEventFacets.VenueCount;
+import com.capstone.tickets.domain.entities.Event;
+import com.capstone.tickets.domain.entities.TicketType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.domain.Specification;
+
+public class EventFacetRepositoryImpl implements EventFacetRepository {
+
+  private static final int MAX_VENUES = 20;
+  private static final double[] PRICE_BAND_BOUNDS = {0, 25, 50, 100};
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public PublishedEventFacets findFacets(PublishedEventFilter filter) {
+    return new PublishedEventFacets(
+        findVenueCounts(EventSpecifications.publishedMatching(filter.withoutVenue())),
+        findPriceBandCounts(EventSpecifications.publishedMatching(filter.withoutPriceRange())));
+  }
+
+  private List<VenueCount> findVenueCounts(Specification<Event> spec) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Tuple> query = cb.createTupleQuery();
+    Root<Event> event = query.from(Event.class);
+    Expression<Long> count = cb.count(event);
+
+    query.multiselect(event.get("venue"), count)
+        .where(spec.toPredicate(event, query, cb))
+        .groupBy(event.get("venue"))
+        .orderBy(cb.desc(count), cb.asc(event.get("venue")));
+
+    return entityManager.createQuery(query)
+        .setMaxResults(MAX_VENUES)
+        .getResultList()
+        .stream()
+        .map(row -> new VenueCount(row.get(0, String.class), row.get(1, Long.class)))
+        .toList();
+  }
+
+  // All bands are counted in one pass with conditional COUNT(DISTINCT ...)
+  private List<PriceBandCount> findPriceBandCounts(Specification<Event> spec) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Tuple> query = cb.createTupleQuery();
+    Root<Event> event = query.from(Event.class);
+    Join<Event, TicketType> ticketType = event.join("ticketTypes");
+    Expression<Double> price = ticketType.get("price");
+
+    List<Selection<?>> selections = new ArrayList<>();
+    for (int i = 0; i < PRICE_BAND_BOUNDS.length; i++) {
+      Predicate inBand = cb.greaterThanOrEqualTo(price, PRICE_BAND_BOUNDS[i]);
+      if (i + 1 < PRICE_BAND_BOUNDS.length) {
+        inBand = cb.and(inBand, cb.lessThan(price, PRICE_BAND_BOUNDS[i + 1]));
+      }
+      selections.add(cb.countDistinct(
+          cb.<UUID>selectCase().when(inBand, event.<UUID>get("id"))));
+    }
+
+    query.multiselect(selections).where(spec.toPredicate(event, query, cb));
+    Tuple row = entityManager.createQuery(query).getSingleResult();
+
+    List<PriceBandCount> bands = new ArrayList<>();
+    for (int i = 0; i < PRICE_BAND_BOUNDS.length; i++) {
+      Double maxPrice = i + 1 < PRICE_BAND_BOUNDS.length ? PRICE_BAND_BOUNDS[i + 1] : null;
+      bands.add(new PriceBandCount(PRICE_BAND_BOUNDS[i], maxPrice, row.get(i, Long.class)));
+    }
+    return bands;
+  }
+}
@@ -2,36 +2,129 @@ package com.capstone.tickets.repositories;
 
 import com.capstone.tickets.domain.entities.Event;
 import com.capstone.tickets.domain.entities.EventStatusEnum;
+import com.capstone.tickets.domain.projections.ContentVersionView;
+import com.capstone.tickets.domain.projections.EventSuggestionView;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
-public interface EventRepository extends JpaRepository<Event, UUID> {
+public interface EventRepository extends JpaRepository<Event, UUID>,
+    JpaSpecificationExecutor<Event>, EventFacetRepository, EventArchiveRepository {
 
   Page<Event> findByOrganizerId(UUID organizerId, Pageable pageable);
 
+  @EntityGraph(attributePaths = "ticketTypes")
   Optional<Event> findByIdAndOrganizerId(UUID id, UUID organizerId);
 
+  boolean existsByIdAndOrganizerId(UUID id, UUID organizerId);
+
   Page<Event> findByStatus(EventStatusEnum status, Pageable pageable);
 
-  long countByOrganizerId(UUID organizerId);
+  <T> Page<T> findByStatus(EventStatusEnum status, Pageable pageable, Class<T> type);
+
+  // Initializes ticketTypes on already-loaded events with one query, instead of one per event
+  @Query("SELECT DISTINCT e FROM Event e LEFT JOIN FETCH e.ticketTypes WHERE e IN :events")
+  List<Event> fetchTicketTypes(@Param("events") Collection<Event> events);
+
+  // Keyset pagination in (createdAt DESC, id DESC) order, without OFFSET or count queries
+
+  @Query("SELECT e FROM Event e WHERE e.status = :status ORDER BY e.createdAt DESC, e.id DESC")
+  List<Event> scrollByStatus(@Param("status") EventStatusEnum status, Limit limit);
 
-  long countByOrganizerIdAndStatus(UUID organizerId, EventStatusEnum status);
+  @Query("SELECT e FROM Event e WHERE e.status = :status AND (e.createdAt < :createdAt " +
+      "OR (e.createdAt = :createdAt AND e.id < :id)) ORDER BY e.createdAt DESC, e.id DESC")
+  List<Event> scrollByStatusAfter(@Param("status") EventStatusEnum status,
+      @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
 
-  @Query(value = "SELECT * FROM events WHERE " +
-      "status = 'PUBLISHED' AND " +
-      "to_tsvector('english', COALESCE(name, '') || ' ' || COALESCE(venue, '')) " +
-      "@@ plainto_tsquery('english', :searchTerm)", countQuery = "SELECT count(*) FROM events WHERE " +
-          "status = 'PUBLISHED' AND " +
-          "to_tsvector('english', COALESCE(name, '') || ' ' || COALESCE(venue, '')) " +
-          "@@ plainto_tsquery('english', :searchTerm)", nativeQuery = true)
+  @Query("SELECT e FROM Event e WHERE e.organizer.id = :organizerId ORDER BY e.createdAt DESC, e.id DESC")
+  List<Event> scrollByOrganizerId(@Param("organizerId") UUID organizerId, Limit limit);
+
+  @Query("SELECT e FROM Event e WHERE e.organizer.id = :organizerId AND (e.createdAt < :createdAt " +
+      "OR (e.createdAt = :createdAt AND e.id < :id)) ORDER BY e.createdAt DESC, e.id DESC")
+  List<Event> scrollByOrganizerIdAfter(@Param("organizerId") UUID organizerId,
+      @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+  // search_vector is a stored generated column with a GIN index, see db/migration/V3
+  @Query(value = "SELECT e.* FROM events e, plainto_tsquery('english', :searchTerm) query WHERE " +
+      "e.status = 'PUBLISHED' AND e.search_vector @@ query " +
+      "ORDER BY ts_rank(e.search_vector, query) DESC, e.id", countQuery = "SELECT count(*) FROM events WHERE " +
+          "status = 'PUBLISHED' AND search_vector @@ plainto_tsquery('english', :searchTerm)", nativeQuery = true)
   Page<Event> searchEvents(@Param("searchTerm") String searchTerm, Pageable pageable);
 
+  @EntityGraph(attributePaths = "ticketTypes")
   Optional<Event> findByIdAndStatus(UUID id, EventStatusEnum status);
+
+  boolean existsByIdAndStatus(UUID id, EventStatusEnum status);
+
+  // word_similarity matches the term against any word or prefix of the column, tolerating typos.
+  // Backed by the trigram indexes in db/migration/V3
+  @Query(value = "SELECT e.id AS \"id\", e.name AS \"name\", e.venue AS \"venue\" " +
+      "FROM events e WHERE e.status = 'PUBLISHED' AND (:term <% e.name OR :term <% e.venue) " +
+      "ORDER BY GREATEST(word_similarity(:term, e.name), word_similarity(:term, e.venue)) DESC, " +
+      "e.name LIMIT :limit", nativeQuery = true)
+  List<EventSuggestionView> suggestPublished(@Param("term") String term,
+      @Param("limit") int limit);
+
+  // Version lookups for conditional GETs: version rows only, no entity loading
+
+  // Per-event version row (db/migration/V9), bumped by purchases and event changes; its version
+  // stands in for the row count in the ETag
+  @Query(value = "SELECT COALESCE(v.updated_at, e.updated_at) AS \"lastModified\", " +
+      "COALESCE(v.version, 0) AS \"rowCount\" " +
+      "FROM events e LEFT JOIN published_event_versions v ON v.event_id = e.id " +
+      "WHERE e.id = :eventId AND e.status = 'PUBLISHED'", nativeQuery = true)
+  Optional<ContentVersionView> findPublishedVersion(@Param("eventId") UUID eventId);
+
+  // Joins the caller's write transaction, so the version changes exactly when the write commits.
+  // Purchases of one event queue on this row only for the rest of their transaction.
+  @Transactional
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "published_event_versions"))
+  @Query(value = "INSERT INTO published_event_versions (event_id, version, updated_at) " +
+      "VALUES (:eventId, 1, :now) ON CONFLICT (event_id) DO UPDATE " +
+      "SET version = published_event_versions.version + 1, " +
+      "updated_at = GREATEST(published_event_versions.updated_at, :now)", nativeQuery = true)
+  int incrementPublishedVersion(@Param("eventId") UUID eventId, @Param("now") LocalDateTime now);
+
+  // Single-row counter (db/migration/V7); its version stands in for the row count in the ETag
+  @Query(value = "SELECT updated_at AS \"lastModified\", version AS \"rowCount\" " +
+      "FROM published_listing_version", nativeQuery = true)
+  ContentVersionView findPublishedListingVersion();
+
+  // Joins the caller's write transaction, so the version changes exactly when the write commits
+  @Transactional
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "published_listing_version"))
+  @Query(value = "UPDATE published_listing_version SET version = version + 1, updated_at = :now",
+      nativeQuery = true)
+  int incrementPublishedListingVersion(@Param("now") LocalDateTime now);
+
+  // Archival: events past their end, oldest first (partial index in db/migration/V6)
+
+  @Query("SELECT e.id FROM Event e WHERE e.status = :status AND e.end < :endedBefore ORDER BY e.end")
+  List<UUID> findIdsByStatusAndEndBefore(@Param("status") EventStatusEnum status,
+      @Param("endedBefore") LocalDateTime endedBefore, Limit limit);
+
+  @Query("SELECT e FROM Event e WHERE e.id = :id")
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  Optional<Event> findByIdWithLock(@Param("id") UUID id);
 }
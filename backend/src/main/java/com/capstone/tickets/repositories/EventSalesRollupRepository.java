@@ -0,0 +1,51 @@
+package com.capstone.tickets.repositories;
+
+import com.capstone.tickets.domain.entities.EventSalesRollup;
+import com.capstone.tickets.domain.entities.EventSalesRollupId;
+import com.capstone.tickets.domain.entities.RollupGranularityEnum;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EventSalesRollupRepository extends
+    JpaRepository<EventSalesRollup, EventSalesRollupId> {
+
+  /**
+   * Adds to the minute, hour and day buckets of a ticket type in one round trip.
+   */
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event_sales_rollups"))
+  @Query(value = "INSERT INTO event_sales_rollups AS r (event_id, ticket_type_id, granularity, " +
+      "bucket_start, tickets_sold, revenue, check_ins) VALUES " +
+      "(:eventId, :ticketTypeId, 'MINUTE', :minute, :ticketsSold, :revenue, :checkIns), " +
+      "(:eventId, :ticketTypeId, 'HOUR', :hour, :ticketsSold, :revenue, :checkIns), " +
+      "(:eventId, :ticketTypeId, 'DAY', :day, :ticketsSold, :revenue, :checkIns) " +
+      "ON CONFLICT (event_id, ticket_type_id, granularity, bucket_start) DO UPDATE SET " +
+      "tickets_sold = r.tickets_sold + EXCLUDED.tickets_sold, " +
+      "revenue = r.revenue + EXCLUDED.revenue, " +
+      "check_ins = r.check_ins + EXCLUDED.check_ins", nativeQuery = true)
+  void increment(@Param("eventId") UUID eventId, @Param("ticketTypeId") UUID ticketTypeId,
+      @Param("minute") LocalDateTime minute, @Param("hour") LocalDateTime hour,
+      @Param("day") LocalDateTime day, @Param("ticketsSold") long ticketsSold,
+      @Param("revenue") double revenue, @Param("checkIns") long checkIns);
+
+  @Query("SELECT r FROM EventSalesRollup r WHERE r.eventId = :eventId " +
+      "AND r.granularity = :granularity AND r.bucketStart >= :from AND r.bucketStart < :to " +
+      "ORDER BY r.bucketStart, r.ticketTypeId")
+  List<EventSalesRollup> findRange(@Param("eventId") UUID eventId,
+      @Param("granularity") RollupGranularityEnum granularity,
+      @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+  @Modifying
+  @Query("DELETE FROM EventSalesRollup r WHERE r.eventId = :eventId")
+  void deleteByEventId(@Param("eventId") UUID eventId);
+}
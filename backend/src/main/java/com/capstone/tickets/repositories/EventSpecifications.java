@@ -0,0 +1,66 @@
+package com.capstone.tickets.repositories;
+
+import com.capstone.tickets.domain.PublishedEventFilter;
+import com.capstone.tickets.domain.entities.Event;
+import com.capstone.tickets.domain.entities.EventStatusEnum;
+import com.capstone.tickets.domain.entities.TicketType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Builds only the predicates a filter actually sets, so every combination produces a query the
+ * planner can match against the composite indexes on events and ticket_types.
+ */
+public final class EventSpecifications {
+
+  private EventSpecifications() {
+  }
+
+  public static Specification<Event> publishedMatching(PublishedEventFilter filter) {
+    Specification<Event> spec = hasStatus(EventStatusEnum.PUBLISHED);
+    if (null != filter.startsAfter()) {
+      spec = spec.and((root, query, cb) ->
+          cb.greaterThanOrEqualTo(root.get("start"), filter.startsAfter()));
+    }
+    if (null != filter.endsBefore()) {
+      spec = spec.and((root, query, cb) ->
+          cb.lessThanOrEqualTo(root.get("end"), filter.endsBefore()));
+    }
+    if (null != filter.venue() && !filter.venue().isBlank()) {
+      spec = spec.and((root, query, cb) -> cb.equal(root.get("venue"), filter.venue().trim()));
+    }
+    if (null != filter.minPrice() || null != filter.maxPrice()) {
+      spec = spec.and(hasTicketPriceBetween(filter.minPrice(), filter.maxPrice()));
+    }
+    return spec;
+  }
+
+  public static Specification<Event> hasStatus(EventStatusEnum status) {
+    return (root, query, cb) -> cb.equal(root.get("status"), status);
+  }
+
+  // Half-open [minPrice, maxPrice), matching the facet price bands
+  public static Specification<Event> hasTicketPriceBetween(Double minPrice, Double maxPrice) {
+    return (root, query, cb) -> {
+      Subquery<UUID> ticketTypes = query.subquery(UUID.class);
+      Root<TicketType> ticketType = ticketTypes.from(TicketType.class);
+
+      List<Predicate> predicates = new ArrayList<>();
+      predicates.add(cb.equal(ticketType.get("event"), root));
+      if (null != minPrice) {
+        predicates.add(cb.greaterThanOrEqualTo(ticketType.get("price"), minPrice));
+      }
+      if (null != maxPrice) {
+        predicates.add(cb.lessThan(ticketType.get("price"), maxPrice));
+      }
+
+      ticketTypes.select(ticketType.get("id")).where(predicates.toArray(Predicate[]::new));
+      return cb.exists(ticketTypes);
+    };
+  }
+}
@@ -0,0 +1,129 @@
+package com.capstone.tickets.repositories;
+
+import com.capstone.tickets.domain.OrganizerStatsDelta;
+import com.capstone.tickets.domain.entities.OrganizerStats;
+import com.capstone.tickets.domain.projections.OrganizerSummaryView;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrganizerStatsRepository extends JpaRepository<OrganizerStats, UUID> {
+
+  /**
+   * Computes every dashboard total for one organizer in a single statement: event counts use
+   * conditional aggregation, sales are pre-grouped per ticket type before being summed. Sales and
+   * check-ins of archived tickets come from ticket_type_archive_totals.
+   */
+  String SUMMARY_QUERY = "WITH organizer_events AS (" +
+      "SELECT id, status FROM events WHERE organizer_id = :organizerId" +
+      "), organizer_ticket_types AS (" +
+      "SELECT tt.id, tt.price, tt.total_available FROM ticket_types tt " +
+      "JOIN organizer_events e ON e.id = tt.event_id" +
+      "), ticket_type_sales AS (" +
+      "SELECT sales.ticket_type_id, SUM(sales.sold) AS sold FROM (" +
+      "SELECT t.ticket_type_id, t.quantity AS sold FROM tickets t " +
+      "JOIN organizer_ticket_types tt ON tt.id = t.ticket_type_id " +
+      "UNION ALL SELECT a.ticket_type_id, a.tickets_sold FROM ticket_type_archive_totals a " +
+      "JOIN organizer_ticket_types tt ON tt.id = a.ticket_type_id" +
+      ") sales GROUP BY sales.ticket_type_id" +
+      ") " +
+      "SELECT ev.total_events AS \"totalEvents\", " +
+      "ev.published_events AS \"publishedEvents\", " +
+      "ev.draft_events AS \"draftEvents\", " +
+      "tt.total_ticket_types AS \"totalTicketTypes\", " +
+      "tt.total_tickets_available AS \"totalTicketsAvailable\", " +
+      "tt.total_tickets_sold AS \"totalTicketsSold\", " +
+      "tt.total_revenue AS \"totalRevenue\", " +
+      "v.total_attendances AS \"totalAttendances\" " +
+      "FROM (SELECT COUNT(*) AS total_events, " +
+      "COUNT(*) FILTER (WHERE status = 'PUBLISHED') AS published_events, " +
+      "COUNT(*) FILTER (WHERE status = 'DRAFT') AS draft_events " +
+      "FROM organizer_events) ev " +
+      "CROSS JOIN (SELECT COUNT(*) AS total_ticket_types, " +
+      "COALESCE(SUM(tt.total_available), 0) AS total_tickets_available, " +
+      "COALESCE(SUM(s.sold), 0) AS total_tickets_sold, " +
+      "COALESCE(SUM(s.sold * tt.price), 0) AS total_revenue " +
+      "FROM organizer_ticket_types tt " +
+      "LEFT JOIN ticket_type_sales s ON s.ticket_type_id = tt.id) tt " +
+      "CROSS JOIN (SELECT CAST((SELECT COUNT(*) FROM ticket_validations tv " +
+      "JOIN tickets t ON t.id = tv.ticket_id AND t.event_id = tv.event_id " +
+      "JOIN organizer_ticket_types tt ON tt.id = t.ticket_type_id " +
+      "WHERE tv.status = 'VALID') + (SELECT COALESCE(SUM(a.check_ins), 0) " +
+      "FROM ticket_type_archive_totals a " +
+      "JOIN organizer_ticket_types tt ON tt.id = a.ticket_type_id) AS BIGINT) " +
+      "AS total_attendances) v";
+
+  @Query(value = SUMMARY_QUERY, nativeQuery = true)
+  OrganizerSummaryView summarize(@Param("organizerId") UUID organizerId);
+
+  @Modifying
+  @Query("UPDATE OrganizerStats s SET " +
+      "s.totalEvents = s.totalEvents + :#{#delta.totalEvents}, " +
+      "s.publishedEvents = s.publishedEvents + :#{#delta.publishedEvents}, " +
+      "s.draftEvents = s.draftEvents + :#{#delta.draftEvents}, " +
+      "s.totalTicketTypes = s.totalTicketTypes + :#{#delta.totalTicketTypes}, " +
+      "s.totalTicketsAvailable = s.totalTicketsAvailable + :#{#delta.totalTicketsAvailable}, " +
+      "s.totalTicketsSold = s.totalTicketsSold + :#{#delta.totalTicketsSold}, " +
+      "s.totalRevenue = s.totalRevenue + :#{#delta.totalRevenue}, " +
+      "s.totalAttendances = s.totalAttendances + :#{#delta.totalAttendances}, " +
+      "s.updatedAt = :now " +
+      "WHERE s.organizerId = :organizerId")
+  int applyDelta(@Param("organizerId") UUID organizerId, @Param("delta") OrganizerStatsDelta delta,
+      @Param("now") LocalDateTime now);
+
+  @Query("SELECT s.organizerId FROM OrganizerStats s WHERE s.organizerId > :after " +
+      "ORDER BY s.organizerId")
+  List<UUID> findOrganizerIdsAfter(@Param("after") UUID after, Limit limit);
+
+  @Query(value = "SELECT organizer_id FROM organizer_stats WHERE organizer_id = :organizerId " +
+      "FOR UPDATE", nativeQuery = true)
+  Optional<UUID> lockById(@Param("organizerId") UUID organizerId);
+
+  /**
+   * Overwrites the counters with the summary when they differ, and returns whether they did.
+   * Revenue is compared to the cent, as sums of doubles in a different order rarely match
+   * exactly.
+   */
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "organizer_stats"))
+  @Query(value = "UPDATE organizer_stats s SET " +
+      "total_events = summary.\"totalEvents\", " +
+      "published_events = summary.\"publishedEvents\", " +
+      "draft_events = summary.\"draftEvents\", " +
+      "total_ticket_types = summary.\"totalTicketTypes\", " +
+      "total_tickets_available = summary.\"totalTicketsAvailable\", " +
+      "total_tickets_sold = summary.\"totalTicketsSold\", " +
+      "total_revenue = summary.\"totalRevenue\", " +
+      "total_attendances = summary.\"totalAttendances\", " +
+      "updated_at = :now " +
+      "FROM (" + SUMMARY_QUERY + ") summary " +
+      "WHERE s.organizer_id = :organizerId AND (" +
+      "(s.total_events, s.published_events, s.draft_events, s.total_ticket_types, " +
+      "s.total_tickets_available, s.total_tickets_sold, s.total_attendances) " +
+      "IS DISTINCT FROM (summary.\"totalEvents\", summary.\"publishedEvents\", " +
+      "summary.\"draftEvents\", summary.\"totalTicketTypes\", " +
+      "summary.\"totalTicketsAvailable\", summary.\"totalTicketsSold\", " +
+      "summary.\"totalAttendances\") " +
+      "OR ABS(s.total_revenue - summary.\"totalRevenue\") >= 0.01)", nativeQuery = true)
+  int resetToSummary(@Param("organizerId") UUID organizerId, @Param("now") LocalDateTime now);
+
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "organizer_stats"))
+  @Query(value = "INSERT INTO organizer_stats (organizer_id, total_events, published_events, " +
+      "draft_events, total_ticket_types, total_tickets_available, total_tickets_sold, " +
+      "total_revenue, total_attendances, created_at, updated_at) " +
+      "SELECT :organizerId, summary.*, :now, :now FROM (" + SUMMARY_QUERY + ") summary " +
+      "ON CONFLICT (organizer_id) DO NOTHING", nativeQuery = true)
+  int insertIfAbsent(@Param("organizerId") UUID organizerId, @Param("now") LocalDateTime now);
+}
@@ -2,13 +2,24 @@ package com.capstone.tickets.repositories;
 
 import com.capstone.tickets.domain.entities.QrCode;
 import com.capstone.tickets.domain.entities.QrCodeStatusEnum;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface QrCodeRepository extends JpaRepository<QrCode, UUID> {
   Optional<QrCode> findByTicketIdAndTicketPurchaserId(UUID ticketId, UUID ticketPurchaseId);
   Optional<QrCode> findByIdAndStatus(UUID id, QrCodeStatusEnum status);
+  Optional<QrCode> findByIdAndEventIdAndStatus(UUID id, UUID eventId, QrCodeStatusEnum status);
+
+  @Modifying
+  @Query("UPDATE QrCode q SET q.status = :status, q.updatedAt = :now " +
+      "WHERE q.eventId = :eventId AND q.status <> :status")
+  int updateStatusByEventId(@Param("eventId") UUID eventId,
+      @Param("status") QrCodeStatusEnum status, @Param("now") LocalDateTime now);
 }
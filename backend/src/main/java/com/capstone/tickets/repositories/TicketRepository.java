@@ -1,14 +1,17 @@
 package com.capstone.tickets.repositories;
 
 import com.capstone.tickets.domain.entities.Ticket;
+import java.time.LocalDate;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface TicketRepository extends JpaRepository<Ticket, UUID> {
@@ -17,16 +20,39 @@ public interface TicketRepository extends JpaRepository<Ticket, UUID> {
   @Query("SELECT t FROM Ticket t JOIN t.qrCodes q WHERE q.value = :qrCode")
   Optional<Ticket> findByQrCode(@Param("qrCode") String qrCode);
 
-  @Query("SELECT COALESCE(SUM(t.quantity), 0) FROM Ticket t WHERE t.ticketType.id = :ticketTypeId")
-  int countByTicketTypeId(@Param("ticketTypeId") UUID ticketTypeId);
+  // Filtering on event_id (the partition key) keeps per-event queries on a single partition;
+  // archived tickets still count as sold
+  @Query(value = "SELECT CAST(COALESCE((SELECT SUM(t.quantity) FROM tickets t " +
+      "WHERE t.event_id = :eventId AND t.ticket_type_id = :ticketTypeId), 0) + " +
+      "COALESCE((SELECT a.tickets_sold FROM ticket_type_archive_totals a " +
+      "WHERE a.ticket_type_id = :ticketTypeId), 0) AS INTEGER)", nativeQuery = true)
+  int countByTicketTypeId(@Param("eventId") UUID eventId,
+      @Param("ticketTypeId") UUID ticketTypeId);
 
+  Optional<Ticket> findByIdAndEventId(UUID id, UUID eventId);
+
+  @EntityGraph(attributePaths = "ticketType")
   Page<Ticket> findByPurchaserId(UUID purchaserId, Pageable pageable);
 
+  // Ticket details and the PDF both render ticket type and event fields
+  @EntityGraph(attributePaths = {"ticketType", "ticketType.event"})
   Optional<Ticket> findByIdAndPurchaserId(UUID id, UUID purchaserId);
 
-  @Query("SELECT COALESCE(SUM(t.quantity), 0) FROM Ticket t JOIN t.ticketType tt JOIN tt.event e WHERE e.organizer.id = :organizerId")
-  long countByOrganizer(@Param("organizerId") UUID organizerId);
+  // Event totals include tickets already moved out by the archival job (db/migration/V6)
+
+  @Query(value = "SELECT CAST((SELECT COALESCE(SUM(t.quantity), 0) FROM tickets t " +
+      "WHERE t.event_id = :eventId) + (SELECT COALESCE(SUM(a.tickets_sold), 0) " +
+      "FROM ticket_type_archive_totals a WHERE a.event_id = :eventId) AS BIGINT)", nativeQuery = true)
+  long countByEvent(@Param("eventId") UUID eventId);
+
+  @Query(value = "SELECT (SELECT COALESCE(SUM(tt.price * t.quantity), 0) FROM tickets t " +
+      "JOIN ticket_types tt ON tt.id = t.ticket_type_id WHERE t.event_id = :eventId) + " +
+      "(SELECT COALESCE(SUM(tt.price * a.tickets_sold), 0) FROM ticket_type_archive_totals a " +
+      "JOIN ticket_types tt ON tt.id = a.ticket_type_id WHERE a.event_id = :eventId)", nativeQuery = true)
+  Double sumRevenueByEvent(@Param("eventId") UUID eventId);
 
-  @Query("SELECT COALESCE(SUM(tt.price * t.quantity), 0) FROM Ticket t JOIN t.ticketType tt JOIN tt.event e WHERE e.organizer.id = :organizerId")
-  Double sumRevenueByOrganizer(@Param("organizerId") UUID organizerId);
+  // DDL, so never routed to a read-only connection
+  @Transactional
+  @Query(value = "SELECT ensure_event_partitions(:fromMonth, :months)", nativeQuery = true)
+  int ensureEventPartitions(@Param("fromMonth") LocalDate fromMonth, @Param("months") int months);
 }
@@ -1,7 +1,12 @@
 package com.capstone.tickets.repositories;
 
+import com.capstone.tickets.domain.entities.EventStatusEnum;
 import com.capstone.tickets.domain.entities.TicketType;
+import com.capstone.tickets.domain.projections.TicketTypeAvailabilityView;
+import com.capstone.tickets.domain.projections.TicketTypeStatsView;
 import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -17,9 +22,54 @@ public interface TicketTypeRepository extends JpaRepository<TicketType, UUID> {
   @Lock(LockModeType.PESSIMISTIC_WRITE)
   Optional<TicketType> findByIdWithLock(@Param("id") UUID id);
 
-  @Query("SELECT COUNT(tt) FROM TicketType tt JOIN tt.event e WHERE e.organizer.id = :organizerId")
-  long countByOrganizer(@Param("organizerId") UUID organizerId);
+  // The same row locks as purchases take, so the event's sales hold still while they are held
+  @Query("SELECT tt FROM TicketType tt WHERE tt.event.id = :eventId ORDER BY tt.id")
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  List<TicketType> findByEventIdWithLock(@Param("eventId") UUID eventId);
+
+  @Query(value = "SELECT e.id AS \"eventId\", e.name AS \"eventName\", " +
+      "tt.id AS \"ticketTypeId\", tt.name AS \"ticketTypeName\", tt.price AS \"price\", " +
+      "tt.total_available AS \"totalAvailable\", " +
+      "COALESCE(s.sold, 0) + COALESCE(a.tickets_sold, 0) AS \"ticketsSold\", " +
+      "(COALESCE(s.sold, 0) + COALESCE(a.tickets_sold, 0)) * COALESCE(tt.price, 0) AS \"revenue\", " +
+      "COALESCE(v.check_ins, 0) + COALESCE(a.check_ins, 0) AS \"checkIns\" " +
+      "FROM events e " +
+      "LEFT JOIN ticket_types tt ON tt.event_id = e.id " +
+      "LEFT JOIN (SELECT t.ticket_type_id, SUM(t.quantity) AS sold FROM tickets t " +
+      "WHERE t.event_id = :eventId " +
+      "GROUP BY t.ticket_type_id) s ON s.ticket_type_id = tt.id " +
+      "LEFT JOIN (SELECT t.ticket_type_id, COUNT(*) AS check_ins FROM ticket_validations tv " +
+      "JOIN tickets t ON t.id = tv.ticket_id AND t.event_id = tv.event_id " +
+      "WHERE tv.event_id = :eventId AND tv.status = 'VALID' " +
+      "GROUP BY t.ticket_type_id) v ON v.ticket_type_id = tt.id " +
+      "LEFT JOIN ticket_type_archive_totals a ON a.ticket_type_id = tt.id " +
+      "WHERE e.id = :eventId AND e.organizer_id = :organizerId " +
+      "ORDER BY tt.created_at", nativeQuery = true)
+  List<TicketTypeStatsView> findStatsByEvent(@Param("eventId") UUID eventId,
+      @Param("organizerId") UUID organizerId);
+
+  // Sold counts include archived tickets, as in findStatsByEvent
+  @Query(value = "SELECT tt.event_id AS \"eventId\", tt.id AS \"ticketTypeId\", " +
+      "tt.total_available AS \"totalAvailable\", " +
+      "COALESCE(s.sold, 0) + COALESCE(a.tickets_sold, 0) AS \"sold\" " +
+      "FROM ticket_types tt " +
+      "LEFT JOIN (SELECT t.ticket_type_id, SUM(t.quantity) AS sold FROM tickets t " +
+      "WHERE t.event_id = :eventId " +
+      "GROUP BY t.ticket_type_id) s ON s.ticket_type_id = tt.id " +
+      "LEFT JOIN ticket_type_archive_totals a ON a.ticket_type_id = tt.id " +
+      "WHERE tt.event_id = :eventId", nativeQuery = true)
+  List<TicketTypeAvailabilityView> findAvailabilityByEvent(@Param("eventId") UUID eventId);
 
-  @Query("SELECT COALESCE(SUM(tt.totalAvailable), 0) FROM TicketType tt JOIN tt.event e WHERE e.organizer.id = :organizerId")
-  Long sumTotalAvailableByOrganizer(@Param("organizerId") UUID organizerId);
+  @Query(value = "SELECT tt.event_id AS \"eventId\", tt.id AS \"ticketTypeId\", " +
+      "tt.total_available AS \"totalAvailable\", " +
+      "COALESCE(s.sold, 0) + COALESCE(a.tickets_sold, 0) AS \"sold\" " +
+      "FROM ticket_types tt " +
+      "JOIN events e ON e.id = tt.event_id AND e.status = :#{#status.name()} " +
+      "LEFT JOIN (SELECT t.ticket_type_id, SUM(t.quantity) AS sold FROM tickets t " +
+      "WHERE t.event_id IN :eventIds " +
+      "GROUP BY t.ticket_type_id) s ON s.ticket_type_id = tt.id " +
+      "LEFT JOIN ticket_type_archive_totals a ON a.ticket_type_id = tt.id " +
+      "WHERE tt.event_id IN :eventIds", nativeQuery = true)
+  List<TicketTypeAvailabilityView> findAvailabilityByEvents(
+      @Param("eventIds") Collection<UUID> eventIds, @Param("status") EventStatusEnum status);
 }
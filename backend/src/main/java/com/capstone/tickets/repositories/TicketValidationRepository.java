@@ -9,10 +9,10 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TicketValidationRepository extends JpaRepository<TicketValidation, UUID> {
-    @Query("SELECT COUNT(tv) FROM TicketValidation tv " +
-            "JOIN tv.ticket t " +
-            "JOIN t.ticketType tt " +
-            "JOIN tt.event e " +
-            "WHERE e.organizer.id = :organizerId AND tv.status = com.capstone.tickets.domain.entities.TicketValidationStatusEnum.VALID")
-    long countValidByOrganizer(@Param("organizerId") UUID organizerId);
+    // Includes check-ins of tickets already moved out by the archival job (db/migration/V6)
+    @Query(value = "SELECT CAST((SELECT COUNT(*) FROM ticket_validations tv " +
+            "WHERE tv.event_id = :eventId AND tv.status = 'VALID') + " +
+            "(SELECT COALESCE(SUM(a.check_ins), 0) FROM ticket_type_archive_totals a " +
+            "WHERE a.event_id = :eventId) AS BIGINT)", nativeQuery = true)
+    long countValidByEvent(@Param("eventId") UUID eventId);
 }
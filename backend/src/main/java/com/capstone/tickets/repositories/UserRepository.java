@@ -1,12 +1,20 @@
 package com.capstone.tickets.repositories;
 
 import com.capstone.tickets.domain.entities.User;
+import com.capstone.tickets.domain.enums.Role;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
+
+    // Reads the column rather than the entity, so a role change made on another instance is
+    // enforced at once instead of after the users cache entry expires
+    @Query("SELECT u.role FROM User u WHERE u.id = :id")
+    Optional<Role> findRoleById(@Param("id") UUID id);
 }
@@ -0,0 +1,262 @@
+package com.capstone.tickets.search;
+
+import com.capstone.tickets.domain.ContentVersion;
+import com.capstone.tickets.domain.entities.Event;
+import com.capstone.tickets.domain.entities.EventStatusEnum;
+import com.capstone.tickets.domain.events.EventChangedEvent;
+import com.capstone.tickets.domain.events.EventDeletedEvent;
+import com.capstone.tickets.repositories.EventRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Inverted index over the name and venue of published events, answering storefront searches
+ * without a database round trip. Each replica holds its own copy: local writes are applied as
+ * soon as they commit, and a periodic rebuild picks up writes made on other replicas.
+ *
+ * <p>The index remembers the listing version it was built at. Once any write moves the listing
+ * version on, searches go to the database until the next rebuild, so a search response is never
+ * sent under an ETag newer than its body.
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.in-memory.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class EventSearchIndex {
+
+  private static final int NAME_WEIGHT = 2;
+  private static final int VENUE_WEIGHT = 1;
+  private static final int REBUILD_BATCH_SIZE = 500;
+
+  private final EventRepository eventRepository;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private Map<UUID, IndexedEvent> documents = new HashMap<>();
+  private Map<String, Map<UUID, Integer>> postings = new HashMap<>();
+  // Changes applied while a rebuild is loading, replayed onto the rebuilt index before the swap;
+  // a null value is a removal. Null when no rebuild is running
+  private Map<UUID, IndexedEvent> changesDuringRebuild;
+  // The listing version read before the last completed rebuild started loading
+  private volatile ContentVersion builtAt;
+
+  /**
+   * Whether the index reflects at least every write covered by the given listing version.
+   */
+  public boolean isAt(ContentVersion listingVersion) {
+    return listingVersion.equals(builtAt);
+  }
+
+  public Page<Event> search(String query, Pageable pageable) {
+    List<String> terms = SearchTokenizer.tokenize(query).stream().distinct().toList();
+    if (terms.isEmpty()) {
+      return Page.empty(pageable);
+    }
+
+    List<ScoredEvent> matches = new ArrayList<>();
+    lock.readLock().lock();
+    try {
+      // Every term must match, as with plainto_tsquery
+      Map<UUID, Integer> candidates = postings.getOrDefault(terms.get(0), Map.of());
+      for (UUID eventId : candidates.keySet()) {
+        double score = 0;
+        for (String term : terms) {
+          Map<UUID, Integer> termPostings = postings.getOrDefault(term, Map.of());
+          Integer weight = termPostings.get(eventId);
+          if (null == weight) {
+            score = -1;
+            break;
+          }
+          score += weight * Math.log(1.0 + (double) documents.size() / termPostings.size());
+        }
+        if (score >= 0) {
+          matches.add(new ScoredEvent(documents.get(eventId), score));
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    matches.sort(Comparator.comparingDouble(ScoredEvent::score).reversed()
+        .thenComparing(match -> match.event().id()));
+
+    int from = (int) Math.min(pageable.getOffset(), matches.size());
+    int to = Math.min(from + pageable.getPageSize(), matches.size());
+    List<Event> content = matches.subList(from, to).stream()
+        .map(match -> match.event().toEvent())
+        .toList();
+    return new PageImpl<>(content, pageable, matches.size());
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      initialDelayString = "${app.search.in-memory.refresh-interval:PT5M}",
+      fixedDelayString = "${app.search.in-memory.refresh-interval:PT5M}")
+  public synchronized void rebuild() {
+    Map<UUID, IndexedEvent> newDocuments = new HashMap<>();
+    Map<String, Map<UUID, Integer>> newPostings = new HashMap<>();
+
+    lock.writeLock().lock();
+    try {
+      changesDuringRebuild = new LinkedHashMap<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    ContentVersion version;
+    try {
+      // Read before loading, so writes that land mid-load leave the index behind the version
+      version = ContentVersion.of(ContentVersion.LISTING_SCOPE,
+          eventRepository.findPublishedListingVersion());
+      // Keyset batches in a stable order, so no event is skipped or read twice between batches
+      List<Event> batch = eventRepository.scrollByStatus(EventStatusEnum.PUBLISHED,
+          Limit.of(REBUILD_BATCH_SIZE));
+      while (!batch.isEmpty()) {
+        batch.forEach(event -> add(IndexedEvent.of(event), newDocuments, newPostings));
+        if (batch.size() < REBUILD_BATCH_SIZE) {
+          break;
+        }
+        Event last = batch.get(batch.size() - 1);
+        batch = eventRepository.scrollByStatusAfter(EventStatusEnum.PUBLISHED,
+            last.getCreatedAt(), last.getId(), Limit.of(REBUILD_BATCH_SIZE));
+      }
+    } catch (RuntimeException ex) {
+      lock.writeLock().lock();
+      try {
+        changesDuringRebuild = null;
+      } finally {
+        lock.writeLock().unlock();
+      }
+      throw ex;
+    }
+
+    lock.writeLock().lock();
+    try {
+      changesDuringRebuild.forEach((eventId, indexedEvent) -> {
+        remove(eventId, newDocuments, newPostings);
+        if (null != indexedEvent) {
+          add(indexedEvent, newDocuments, newPostings);
+        }
+      });
+      changesDuringRebuild = null;
+      documents = newDocuments;
+      postings = newPostings;
+      builtAt = version;
+    } finally {
+      lock.writeLock().unlock();
+    }
+    log.info("Rebuilt event search index with {} published events", newDocuments.size());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onEventChanged(EventChangedEvent event) {
+    IndexedEvent indexedEvent = eventRepository.findByIdAndStatus(event.eventId(),
+        EventStatusEnum.PUBLISHED).map(IndexedEvent::of).orElse(null);
+
+    lock.writeLock().lock();
+    try {
+      remove(event.eventId(), documents, postings);
+      if (null != indexedEvent) {
+        add(indexedEvent, documents, postings);
+      }
+      recordDuringRebuild(event.eventId(), indexedEvent);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onEventDeleted(EventDeletedEvent event) {
+    lock.writeLock().lock();
+    try {
+      remove(event.eventId(), documents, postings);
+      recordDuringRebuild(event.eventId(), null);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  // Called under the write lock
+  private void recordDuringRebuild(UUID eventId, IndexedEvent indexedEvent) {
+    if (null != changesDuringRebuild) {
+      changesDuringRebuild.put(eventId, indexedEvent);
+    }
+  }
+
+  private static void add(IndexedEvent event, Map<UUID, IndexedEvent> documents,
+      Map<String, Map<UUID, Integer>> postings) {
+    documents.put(event.id(), event);
+    for (String term : SearchTokenizer.tokenize(event.name())) {
+      postings.computeIfAbsent(term, key -> new HashMap<>()).merge(event.id(), NAME_WEIGHT,
+          Integer::sum);
+    }
+    for (String term : SearchTokenizer.tokenize(event.venue())) {
+      postings.computeIfAbsent(term, key -> new HashMap<>()).merge(event.id(), VENUE_WEIGHT,
+          Integer::sum);
+    }
+  }
+
+  private static void remove(UUID eventId, Map<UUID, IndexedEvent> documents,
+      Map<String, Map<UUID, Integer>> postings) {
+    IndexedEvent existing = documents.remove(eventId);
+    if (null == existing) {
+      return;
+    }
+    List<String> terms = new ArrayList<>(SearchTokenizer.tokenize(existing.name()));
+    terms.addAll(SearchTokenizer.tokenize(existing.venue()));
+    for (String term : terms) {
+      Map<UUID, Integer> termPostings = postings.get(term);
+      if (null != termPostings) {
+        termPostings.remove(eventId);
+        if (termPostings.isEmpty()) {
+          postings.remove(term);
+        }
+      }
+    }
+  }
+
+  private record ScoredEvent(IndexedEvent event, double score) {
+  }
+
+  /**
+   * The listing fields of a published event, detached from any persistence context.
+   */
+  private record IndexedEvent(UUID id, String name, String venue, LocalDateTime start,
+                              LocalDateTime end) {
+
+    static IndexedEvent of(Event event) {
+      return new IndexedEvent(event.getId(), event.getName(), event.getVenue(), event.getStart(),
+          event.getEnd());
+    }
+
+    Event toEvent() {
+      return Event.builder()
+          .id(id)
+          .name(name)
+          .venue(venue)
+          .start(start)
+          .end(end)
+          .status(EventStatusEnum.PUBLISHED)
+          .build();
+    }
+  }
+}
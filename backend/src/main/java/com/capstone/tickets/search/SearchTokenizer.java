@@ -0,0 +1,57 @@
+package com.capstone.tickets.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits text into lowercase, lightly stemmed terms. Documents and queries must go through the
+ * same pipeline, so the stemmer only needs to be consistent, not linguistically complete.
+ */
+public final class SearchTokenizer {
+
+  private static final Set<String> STOP_WORDS = Set.of(
+      "a", "an", "and", "at", "by", "for", "in", "of", "on", "or", "the", "to", "with");
+
+  private SearchTokenizer() {
+  }
+
+  public static List<String> tokenize(String text) {
+    List<String> terms = new ArrayList<>();
+    if (null == text) {
+      return terms;
+    }
+    for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+      if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+        terms.add(stem(token));
+      }
+    }
+    return terms;
+  }
+
+  static String stem(String token) {
+    int length = token.length();
+    if (length <= 3) {
+      return token;
+    }
+    if (token.endsWith("ies") && length > 4) {
+      return token.substring(0, length - 3) + "y";
+    }
+    if (token.endsWith("sses") || token.endsWith("xes") || token.endsWith("ches")
+        || token.endsWith("shes")) {
+      return token.substring(0, length - 2);
+    }
+    if (token.endsWith("s") && !token.endsWith("ss") && !token.endsWith("us")
+        && !token.endsWith("is")) {
+      return token.substring(0, length - 1);
+    }
+    if (token.endsWith("ing") && length > 5) {
+      return token.substring(0, length - 3);
+    }
+    if (token.endsWith("ed") && length > 4) {
+      return token.substring(0, length - 2);
+    }
+    return token;
+  }
+}
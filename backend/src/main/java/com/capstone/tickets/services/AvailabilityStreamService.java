@@ -0,0 +1,25 @@
+package com.capstone.tickets.services;
+
+import java.util.UUID;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes remaining availability of an event's ticket types to subscribed clients.
+ */
+public interface AvailabilityStreamService {
+
+  /**
+   * Opens a stream for the event; the current availability is sent immediately.
+   */
+  SseEmitter subscribe(UUID eventId);
+
+  /**
+   * Sends the event's current availability to its subscribers, if it has any.
+   */
+  void broadcast(UUID eventId);
+
+  /**
+   * Completes every stream of the event, e.g. once it has been deleted.
+   */
+  void close(UUID eventId);
+}
@@ -1,8 +1,11 @@
 package com.capstone.tickets.services;
 
 import java.util.UUID;
+import com.capstone.tickets.domain.dtos.GetEventStatsResponseDto;
 import com.capstone.tickets.domain.dtos.OrganizerDashboardSummaryDto;
 
 public interface DashboardService {
     OrganizerDashboardSummaryDto getOrganizerSummary(UUID organizerId);
+
+    GetEventStatsResponseDto getEventStats(UUID organizerId, UUID eventId);
 }
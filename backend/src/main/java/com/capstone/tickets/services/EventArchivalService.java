@@ -0,0 +1,16 @@
+package com.capstone.tickets.services;
+
+public interface EventArchivalService {
+
+  /**
+   * Completes published events whose end has passed; returns how many were completed.
+   */
+  int completeEndedEvents();
+
+  /**
+   * Moves tickets, QR codes and validations of events completed longer than the retention period
+   * ago into the archive tables, in chunks, until the per-run chunk budget is spent. Returns how
+   * many events finished archiving; the rest continue on the next run.
+   */
+  int archiveCompletedEvents();
+}
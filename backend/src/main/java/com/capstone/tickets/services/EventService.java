@@ -1,8 +1,15 @@
 package com.capstone.tickets.services;
 
+import com.capstone.tickets.domain.ContentVersion;
 import com.capstone.tickets.domain.CreateEventRequest;
+import com.capstone.tickets.domain.CursorPage;
+import com.capstone.tickets.domain.PublishedEventFacets;
+import com.capstone.tickets.domain.PublishedEventFilter;
 import com.capstone.tickets.domain.UpdateEventRequest;
 import com.capstone.tickets.domain.entities.Event;
+import com.capstone.tickets.domain.projections.EventSuggestionView;
+import com.capstone.tickets.domain.projections.PublishedEventSummaryView;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
@@ -14,15 +21,40 @@ public interface EventService {
 
   Page<Event> listEventsForOrganizer(UUID organizerId, Pageable pageable);
 
+  CursorPage<Event> scrollEventsForOrganizer(UUID organizerId, String cursor, int size);
+
   Optional<Event> getEventForOrganizer(UUID organizerId, UUID id);
 
   Event updateEventForOrganizer(UUID organizerId, UUID id, UpdateEventRequest event);
 
   void deleteEventForOrganizer(UUID organizerId, UUID id);
 
+  /**
+   * Moves a published event whose end has passed to COMPLETED and expires its QR codes; returns
+   * false when the event no longer qualifies.
+   */
+  boolean completeEvent(UUID id);
+
   Page<Event> listPublishedEvents(Pageable pageable);
 
-  Page<Event> searchPublishedEvents(String query, Pageable pageable);
+  Page<PublishedEventSummaryView> listPublishedEventSummaries(Pageable pageable);
+
+  Page<Event> listPublishedEvents(PublishedEventFilter filter, Pageable pageable);
+
+  PublishedEventFacets getPublishedEventFacets(PublishedEventFilter filter);
+
+  CursorPage<Event> scrollPublishedEvents(String cursor, int size);
+
+  /**
+   * Free-text search over published events, answered from the in-memory index only while it is
+   * at the given listing version.
+   */
+  Page<Event> searchPublishedEvents(String query, Pageable pageable,
+      ContentVersion listingVersion);
 
   Optional<Event> getPublishedEvent(UUID id);
+
+  boolean isPublished(UUID id);
+
+  List<EventSuggestionView> suggestPublishedEvents(String query, int limit);
 }
@@ -0,0 +1,10 @@
+package com.capstone.tickets.services;
+
+public interface OrganizerStatsReconciliationService {
+
+  /**
+   * Compares every organizer's stored counters with the totals computed from the source tables,
+   * resets the ones that have drifted, and returns how many were reset.
+   */
+  int reconcileAll();
+}
@@ -0,0 +1,47 @@
+package com.capstone.tickets.services;
+
+import com.capstone.tickets.domain.OrganizerStatsDelta;
+import com.capstone.tickets.domain.entities.Event;
+import com.capstone.tickets.domain.entities.OrganizerStats;
+import com.capstone.tickets.domain.entities.Ticket;
+import com.capstone.tickets.domain.entities.TicketValidation;
+import com.capstone.tickets.domain.projections.OrganizerSummaryView;
+import java.util.UUID;
+
+public interface OrganizerStatsService {
+
+  OrganizerStats getStats(UUID organizerId);
+
+  /**
+   * Computes the organizer's totals from the source tables, bypassing the stored counters.
+   */
+  OrganizerSummaryView computeSummary(UUID organizerId);
+
+  /**
+   * The event and ticket type counters that the given event currently accounts for. Sales and
+   * check-ins are left out: they are counted as they happen, so a delta between two snapshots of
+   * them would also pick up concurrent purchases that record themselves.
+   */
+  OrganizerStatsDelta contributionOf(Event event);
+
+  /**
+   * The sales, revenue and check-ins of the given event. Only stable while the caller holds the
+   * row locks of the event's ticket types, which purchases also take.
+   */
+  OrganizerStatsDelta salesOf(UUID eventId);
+
+  /**
+   * Applies a delta for a change that has already been written in the current transaction.
+   */
+  void apply(UUID organizerId, OrganizerStatsDelta delta);
+
+  void recordTicketPurchased(Ticket ticket);
+
+  void recordTicketValidated(TicketValidation ticketValidation);
+
+  /**
+   * Resets the organizer's counters to {@link #computeSummary} if they have drifted; returns
+   * whether they had.
+   */
+  boolean reconcile(UUID organizerId);
+}
@@ -0,0 +1,11 @@
+package com.capstone.tickets.services;
+
+public interface PartitionMaintenanceService {
+
+  /**
+   * Creates any missing monthly partitions of tickets, qr_codes and ticket_validations from the
+   * current month through the configured number of months ahead, and returns how many were
+   * created.
+   */
+  int ensureEventPartitions();
+}
@@ -0,0 +1,53 @@
+package com.capstone.tickets.services;
+
+import com.capstone.tickets.domain.ContentVersion;
+import com.capstone.tickets.domain.dtos.GetPublishedEventDetailsResponseDto;
+import com.capstone.tickets.domain.dtos.ListPublishedEventResponseDto;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Cached, already-mapped views of the anonymous published-event reads.
+ */
+public interface PublishedEventService {
+
+  /**
+   * The event's details as of at least the given version, which the caller read from
+   * {@link #getPublishedEventVersion} and answers with.
+   */
+  Optional<GetPublishedEventDetailsResponseDto> getPublishedEventDetails(UUID eventId,
+      ContentVersion version);
+
+  /**
+   * A listing page as of at least the given listing version.
+   */
+  Page<ListPublishedEventResponseDto> listPublishedEvents(Pageable pageable,
+      ContentVersion version);
+
+  /**
+   * Validators for a published event's details, or empty if it is not published.
+   */
+  Optional<ContentVersion> getPublishedEventVersion(UUID eventId);
+
+  /**
+   * Validators covering every published event, used for listing, search and facet responses.
+   * Served from memory and re-read from the listing version row at most every
+   * app.published-events.version-refresh.
+   */
+  ContentVersion getPublishedListingVersion();
+
+  /**
+   * Moves an event's details version on; must run in the transaction of the purchase or event
+   * write it accounts for.
+   */
+  void incrementEventVersion(UUID eventId);
+
+  /**
+   * Moves the listing version on; must run in the transaction of the write it accounts for.
+   */
+  void incrementListingVersion();
+
+  void evict(UUID eventId);
+}
@@ -0,0 +1,19 @@
+package com.capstone.tickets.services;
+
+import com.capstone.tickets.domain.entities.EventSalesRollup;
+import com.capstone.tickets.domain.entities.RollupGranularityEnum;
+import com.capstone.tickets.domain.entities.Ticket;
+import com.capstone.tickets.domain.entities.TicketValidation;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface SalesAnalyticsService {
+
+  void recordTicketPurchased(Ticket ticket);
+
+  void recordTicketValidated(TicketValidation ticketValidation);
+
+  List<EventSalesRollup> getEventSales(UUID organizerId, UUID eventId,
+      RollupGranularityEnum granularity, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,21 @@
+package com.capstone.tickets.services;
+
+import com.capstone.tickets.domain.EventAvailability;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+public interface TicketAvailabilityService {
+
+  EventAvailability getAvailability(UUID eventId);
+
+  /**
+   * Availability of the given published events; ids that are unknown, unpublished or have no
+   * ticket types are absent from the result.
+   */
+  Map<UUID, EventAvailability> getPublishedAvailability(Collection<UUID> eventIds);
+
+  void recordPurchase(UUID eventId, UUID ticketTypeId, int quantity);
+
+  void evict(UUID eventId);
+}
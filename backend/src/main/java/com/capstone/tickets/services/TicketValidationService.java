@@ -4,6 +4,7 @@ import com.capstone.tickets.domain.entities.TicketValidation;
 import java.util.UUID;
 
 public interface TicketValidationService {
-  TicketValidation validateTicketByQrCode(UUID qrCodeId);
-  TicketValidation validateTicketManually(UUID ticketId);
+  // eventId is optional; when given, the lookup reads only that event's partition
+  TicketValidation validateTicketByQrCode(UUID qrCodeId, UUID eventId);
+  TicketValidation validateTicketManually(UUID ticketId, UUID eventId);
 }
@@ -0,0 +1,127 @@
+package com.capstone.tickets.services.impl;
+
+import com.capstone.tickets.domain.dtos.EventAvailabilityResponseDto;
+import com.capstone.tickets.mappers.AvailabilityMapper;
+import com.capstone.tickets.services.AvailabilityStreamService;
+import com.capstone.tickets.services.TicketAvailabilityService;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * One broadcaster per event with subscribers. Idle streams hold no thread (they are async
+ * requests), and fan-out runs on virtual threads so a slow client never blocks the purchase
+ * that triggered it. Bursts of purchases collapse into a single send of the latest snapshot.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class AvailabilityStreamServiceImpl implements AvailabilityStreamService {
+
+  private static final String AVAILABILITY_EVENT = "availability";
+
+  private final TicketAvailabilityService ticketAvailabilityService;
+  private final AvailabilityMapper availabilityMapper;
+
+  private final Map<UUID, EventChannel> channels = new ConcurrentHashMap<>();
+  private final ExecutorService broadcastExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+  @Value("${app.availability.stream-timeout:30m}")
+  private Duration streamTimeout;
+
+  @Override
+  public SseEmitter subscribe(UUID eventId) {
+    SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+    emitter.onCompletion(() -> unsubscribe(eventId, emitter));
+    emitter.onTimeout(() -> unsubscribe(eventId, emitter));
+    emitter.onError(ex -> unsubscribe(eventId, emitter));
+
+    channels.compute(eventId, (id, channel) -> {
+      EventChannel target = null == channel ? new EventChannel() : channel;
+      target.emitters.add(emitter);
+      return target;
+    });
+
+    send(eventId, emitter, availabilityEvent(eventId));
+    return emitter;
+  }
+
+  @Override
+  public void broadcast(UUID eventId) {
+    EventChannel channel = channels.get(eventId);
+    if (null == channel || !channel.pending.compareAndSet(false, true)) {
+      return;
+    }
+    broadcastExecutor.execute(() -> {
+      // The lock keeps sends for one event in snapshot order
+      channel.lock.lock();
+      try {
+        channel.pending.set(false);
+        SseEventBuilder event = availabilityEvent(eventId);
+        channel.emitters.forEach(emitter -> send(eventId, emitter, event));
+      } finally {
+        channel.lock.unlock();
+      }
+    });
+  }
+
+  @Override
+  public void close(UUID eventId) {
+    EventChannel channel = channels.remove(eventId);
+    if (null != channel) {
+      channel.emitters.forEach(SseEmitter::complete);
+    }
+  }
+
+  // Comments keep proxies from closing idle streams and surface disconnected clients
+  @Scheduled(fixedDelayString = "${app.availability.stream-heartbeat:PT30S}")
+  public void sendHeartbeats() {
+    channels.forEach((eventId, channel) -> broadcastExecutor.execute(() ->
+        channel.emitters.forEach(emitter ->
+            send(eventId, emitter, SseEmitter.event().comment("heartbeat")))));
+  }
+
+  private SseEventBuilder availabilityEvent(UUID eventId) {
+    EventAvailabilityResponseDto availability = availabilityMapper.toEventAvailabilityResponseDto(
+        ticketAvailabilityService.getAvailability(eventId));
+    return SseEmitter.event().name(AVAILABILITY_EVENT).data(availability);
+  }
+
+  private void send(UUID eventId, SseEmitter emitter, SseEventBuilder event) {
+    try {
+      emitter.send(event);
+    } catch (IOException | IllegalStateException ex) {
+      log.debug("Dropping availability stream for event {}", eventId, ex);
+      unsubscribe(eventId, emitter);
+      emitter.completeWithError(ex);
+    }
+  }
+
+  private void unsubscribe(UUID eventId, SseEmitter emitter) {
+    channels.computeIfPresent(eventId, (id, channel) -> {
+      channel.emitters.remove(emitter);
+      return channel.emitters.isEmpty() ? null : channel;
+    });
+  }
+
+  private static final class EventChannel {
+
+    private final Set<SseEmitter> emitters = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean pending = new AtomicBoolean();
+    private final ReentrantLock lock = new ReentrantLock();
+  }
+}
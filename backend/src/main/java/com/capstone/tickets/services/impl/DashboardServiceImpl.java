@@ -1,46 +1,120 @@
 package com.capstone.tickets.services.impl;
 
+import com.capstone.tickets.bulkheads.BulkheadRegistry;
+import com.capstone.tickets.bulkheads.BulkheadTypeEnum;
+import com.capstone.tickets.domain.EventStatsCacheKey;
+import com.capstone.tickets.domain.dtos.GetEventStatsResponseDto;
+import com.capstone.tickets.domain.dtos.GetEventStatsTicketTypeResponseDto;
 import com.capstone.tickets.domain.dtos.OrganizerDashboardSummaryDto;
-import com.capstone.tickets.domain.entities.EventStatusEnum;
-import com.capstone.tickets.repositories.EventRepository;
-import com.capstone.tickets.repositories.TicketRepository;
+import com.capstone.tickets.domain.projections.OrganizerSummaryView;
+import com.capstone.tickets.domain.projections.TicketTypeStatsView;
+import com.capstone.tickets.exceptions.EventNotFoundException;
 import com.capstone.tickets.repositories.TicketTypeRepository;
-import com.capstone.tickets.repositories.TicketValidationRepository;
 import com.capstone.tickets.services.DashboardService;
+import com.capstone.tickets.services.OrganizerStatsService;
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class DashboardServiceImpl implements DashboardService {
 
-    private final EventRepository eventRepository;
+    /**
+     * When disabled, every summary is computed from the source tables in a single statement
+     * instead of being read from the stored counters.
+     */
+    @Value("${app.dashboard.stored-counters:true}")
+    private boolean storedCounters;
+
+    private final OrganizerStatsService organizerStatsService;
     private final TicketTypeRepository ticketTypeRepository;
-    private final TicketRepository ticketRepository;
-    private final TicketValidationRepository ticketValidationRepository;
+    private final Cache<UUID, OrganizerDashboardSummaryDto> dashboardSummaryCache;
+    private final Cache<EventStatsCacheKey, GetEventStatsResponseDto> dashboardEventStatsCache;
+    private final BulkheadRegistry bulkheadRegistry;
 
+    // Concurrent misses for the same key block on a single load instead of each recomputing;
+    // only the load takes an analytics permit
     @Override
     public OrganizerDashboardSummaryDto getOrganizerSummary(UUID organizerId) {
-        long totalEvents = eventRepository.countByOrganizerId(organizerId);
-        long publishedEvents = eventRepository.countByOrganizerIdAndStatus(organizerId, EventStatusEnum.PUBLISHED);
-        long draftEvents = eventRepository.countByOrganizerIdAndStatus(organizerId, EventStatusEnum.DRAFT);
-        long totalTicketTypes = ticketTypeRepository.countByOrganizer(organizerId);
-        Long availableSum = ticketTypeRepository.sumTotalAvailableByOrganizer(organizerId);
-        long totalTicketsAvailable = availableSum == null ? 0L : availableSum;
-        long totalTicketsSold = ticketRepository.countByOrganizer(organizerId);
-        Double revenue = ticketRepository.sumRevenueByOrganizer(organizerId);
-        long totalAttendances = ticketValidationRepository.countValidByOrganizer(organizerId);
+        return dashboardSummaryCache.get(organizerId, id -> bulkheadRegistry.call(
+                BulkheadTypeEnum.ANALYTICS, () -> loadOrganizerSummary(id)));
+    }
+
+    @Override
+    public GetEventStatsResponseDto getEventStats(UUID organizerId, UUID eventId) {
+        return dashboardEventStatsCache.get(new EventStatsCacheKey(organizerId, eventId),
+                key -> bulkheadRegistry.call(BulkheadTypeEnum.ANALYTICS,
+                        () -> loadEventStats(key.organizerId(), key.eventId())));
+    }
+
+    private OrganizerDashboardSummaryDto loadOrganizerSummary(UUID organizerId) {
+        OrganizerSummaryView summary = storedCounters
+                ? organizerStatsService.getStats(organizerId)
+                : organizerStatsService.computeSummary(organizerId);
 
         return OrganizerDashboardSummaryDto.builder()
-                .totalEvents(totalEvents)
-                .publishedEvents(publishedEvents)
-                .draftEvents(draftEvents)
-                .totalTicketTypes(totalTicketTypes)
-                .totalTicketsAvailable(totalTicketsAvailable)
-                .totalTicketsSold(totalTicketsSold)
-                .totalRevenue(revenue == null ? 0.0 : revenue)
-                .totalAttendances(totalAttendances)
+                .totalEvents(summary.getTotalEvents())
+                .publishedEvents(summary.getPublishedEvents())
+                .draftEvents(summary.getDraftEvents())
+                .totalTicketTypes(summary.getTotalTicketTypes())
+                .totalTicketsAvailable(summary.getTotalTicketsAvailable())
+                .totalTicketsSold(summary.getTotalTicketsSold())
+                .totalRevenue(summary.getTotalRevenue())
+                .totalAttendances(summary.getTotalAttendances())
+                .build();
+    }
+
+    private GetEventStatsResponseDto loadEventStats(UUID organizerId, UUID eventId) {
+        List<TicketTypeStatsView> rows = ticketTypeRepository.findStatsByEvent(eventId, organizerId);
+        if (rows.isEmpty()) {
+            throw new EventNotFoundException(
+                    String.format("Event with ID '%s' does not exist", eventId));
+        }
+
+        List<GetEventStatsTicketTypeResponseDto> ticketTypes = rows.stream()
+                .filter(row -> null != row.getTicketTypeId())
+                .map(this::toTicketTypeStats)
+                .toList();
+
+        return GetEventStatsResponseDto.builder()
+                .id(rows.get(0).getEventId())
+                .name(rows.get(0).getEventName())
+                .totalAvailable(ticketTypes.stream()
+                        .map(GetEventStatsTicketTypeResponseDto::getTotalAvailable)
+                        .filter(Objects::nonNull)
+                        .mapToLong(Integer::longValue)
+                        .sum())
+                .ticketsSold(ticketTypes.stream()
+                        .mapToLong(GetEventStatsTicketTypeResponseDto::getTicketsSold).sum())
+                .revenue(ticketTypes.stream()
+                        .mapToDouble(GetEventStatsTicketTypeResponseDto::getRevenue).sum())
+                .checkIns(ticketTypes.stream()
+                        .mapToLong(GetEventStatsTicketTypeResponseDto::getCheckIns).sum())
+                .ticketTypes(ticketTypes)
+                .build();
+    }
+
+    private GetEventStatsTicketTypeResponseDto toTicketTypeStats(TicketTypeStatsView row) {
+        Integer totalAvailable = row.getTotalAvailable();
+        boolean limited = null != totalAvailable && totalAvailable > 0;
+
+        return GetEventStatsTicketTypeResponseDto.builder()
+                .id(row.getTicketTypeId())
+                .name(row.getTicketTypeName())
+                .price(row.getPrice())
+                .totalAvailable(totalAvailable)
+                .ticketsSold(row.getTicketsSold())
+                .remaining(null == totalAvailable
+                        ? null
+                        : Math.max(0L, totalAvailable - row.getTicketsSold()))
+                .sellThrough(limited ? (double) row.getTicketsSold() / totalAvailable : null)
+                .revenue(row.getRevenue())
+                .checkIns(row.getCheckIns())
                 .build();
     }
 }
@@ -0,0 +1,143 @@
+package com.capstone.tickets.services.impl;
+
+import com.capstone.tickets.domain.ArchivedChunk;
+import com.capstone.tickets.domain.entities.EventStatusEnum;
+import com.capstone.tickets.repositories.EventRepository;
+import com.capstone.tickets.services.EventArchivalService;
+import com.capstone.tickets.services.EventService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+public class EventArchivalServiceImpl implements EventArchivalService {
+
+  @Value("${app.archival.enabled:true}")
+  private boolean enabled;
+
+  /**
+   * How long after its end an event's tickets stay in the live tables (and in attendees' ticket
+   * lists) before being archived.
+   */
+  @Value("${app.archival.archive-after:P30D}")
+  private Duration archiveAfter;
+
+  @Value("${app.archival.chunk-size:500}")
+  private int chunkSize;
+
+  @Value("${app.archival.max-events-per-run:50}")
+  private int maxEventsPerRun;
+
+  // Bounds one run; an event interrupted here resumes with its remaining tickets next run
+  @Value("${app.archival.max-chunks-per-run:200}")
+  private int maxChunksPerRun;
+
+  private final EventService eventService;
+  private final EventRepository eventRepository;
+  private final AtomicLong pendingEvents = new AtomicLong();
+  private final Counter eventsCompleted;
+  private final Counter eventsArchived;
+  private final Counter ticketsArchived;
+  private final Counter qrCodesArchived;
+  private final Counter validationsArchived;
+  private final Timer chunkTimer;
+
+  public EventArchivalServiceImpl(EventService eventService, EventRepository eventRepository,
+      MeterRegistry meterRegistry) {
+    this.eventService = eventService;
+    this.eventRepository = eventRepository;
+    Gauge.builder("archival.events.pending", pendingEvents, AtomicLong::get)
+        .register(meterRegistry);
+    this.eventsCompleted = Counter.builder("archival.events.completed").register(meterRegistry);
+    this.eventsArchived = Counter.builder("archival.events.archived").register(meterRegistry);
+    this.ticketsArchived = rowsArchived("tickets", meterRegistry);
+    this.qrCodesArchived = rowsArchived("qr_codes", meterRegistry);
+    this.validationsArchived = rowsArchived("ticket_validations", meterRegistry);
+    this.chunkTimer = Timer.builder("archival.chunk").register(meterRegistry);
+  }
+
+  @Scheduled(
+      initialDelayString = "${app.archival.interval:PT15M}",
+      fixedDelayString = "${app.archival.interval:PT15M}")
+  public void runArchival() {
+    if (!enabled) {
+      return;
+    }
+    try {
+      completeEndedEvents();
+      archiveCompletedEvents();
+    } catch (DataAccessException ex) {
+      log.error("Event archival run failed, continuing on the next run", ex);
+    }
+  }
+
+  @Override
+  public int completeEndedEvents() {
+    List<UUID> eventIds = eventRepository.findIdsByStatusAndEndBefore(EventStatusEnum.PUBLISHED,
+        LocalDateTime.now(), Limit.of(maxEventsPerRun));
+
+    int completed = 0;
+    for (UUID eventId : eventIds) {
+      if (eventService.completeEvent(eventId)) {
+        eventsCompleted.increment();
+        completed++;
+      }
+    }
+    if (completed > 0) {
+      log.info("Completed {} ended events", completed);
+    }
+    return completed;
+  }
+
+  @Override
+  public int archiveCompletedEvents() {
+    LocalDateTime endedBefore = LocalDateTime.now().minus(archiveAfter);
+    pendingEvents.set(eventRepository.countEventsPendingArchival(endedBefore));
+
+    int archived = 0;
+    int chunks = 0;
+    for (UUID eventId : eventRepository.findEventIdsPendingArchival(endedBefore,
+        maxEventsPerRun)) {
+      ArchivedChunk chunk;
+      do {
+        if (chunks++ >= maxChunksPerRun) {
+          return archived;
+        }
+        chunk = chunkTimer.record(() ->
+            eventRepository.archiveTicketChunk(eventId, chunkSize, LocalDateTime.now()));
+        ticketsArchived.increment(chunk.tickets());
+        qrCodesArchived.increment(chunk.qrCodes());
+        validationsArchived.increment(chunk.validations());
+      } while (!chunk.isEmpty());
+
+      if (eventRepository.markArchived(eventId, LocalDateTime.now())) {
+        eventsArchived.increment();
+        pendingEvents.decrementAndGet();
+        archived++;
+      }
+    }
+    if (archived > 0) {
+      log.info("Archived tickets of {} completed events", archived);
+    }
+    return archived;
+  }
+
+  private static Counter rowsArchived(String table, MeterRegistry meterRegistry) {
+    return Counter.builder("archival.rows.archived")
+        .tag("table", table)
+        .register(meterRegistry);
+  }
+}
@@ -1,20 +1,43 @@
 package com.capstone.tickets.services.impl;
 
+import com.capstone.tickets.bulkheads.Bulkhead;
+import com.capstone.tickets.bulkheads.BulkheadRegistry;
+import com.capstone.tickets.bulkheads.BulkheadTypeEnum;
+import com.capstone.tickets.config.ReadOnlyTransactional;
+import com.capstone.tickets.domain.ContentVersion;
 import com.capstone.tickets.domain.CreateEventRequest;
+import com.capstone.tickets.domain.CursorPage;
+import com.capstone.tickets.domain.EventCursor;
+import com.capstone.tickets.domain.OrganizerStatsDelta;
+import com.capstone.tickets.domain.PublishedEventFacets;
+import com.capstone.tickets.domain.PublishedEventFilter;
 import com.capstone.tickets.domain.UpdateEventRequest;
 import com.capstone.tickets.domain.UpdateTicketTypeRequest;
 import com.capstone.tickets.domain.entities.Event;
 import com.capstone.tickets.domain.entities.EventStatusEnum;
 import com.capstone.tickets.domain.entities.TicketType;
 import com.capstone.tickets.domain.entities.User;
+import com.capstone.tickets.domain.projections.EventSuggestionView;
+import com.capstone.tickets.domain.projections.PublishedEventSummaryView;
+import com.capstone.tickets.domain.projections.TicketTypeStatsView;
+import com.capstone.tickets.domain.events.EventChangedEvent;
+import com.capstone.tickets.domain.events.EventDeletedEvent;
 import com.capstone.tickets.exceptions.EventNotFoundException;
 import com.capstone.tickets.exceptions.EventUpdateException;
+import com.capstone.tickets.exceptions.InvalidRequestException;
 import com.capstone.tickets.exceptions.TicketTypeNotFoundException;
 import com.capstone.tickets.exceptions.UserNotFoundException;
 import com.capstone.tickets.repositories.EventRepository;
+import com.capstone.tickets.repositories.EventSalesRollupRepository;
+import com.capstone.tickets.repositories.EventSpecifications;
+import com.capstone.tickets.repositories.TicketTypeRepository;
 import com.capstone.tickets.repositories.UserRepository;
+import com.capstone.tickets.search.EventSearchIndex;
 import com.capstone.tickets.services.EventService;
+import com.capstone.tickets.services.OrganizerStatsService;
+import com.capstone.tickets.services.QrCodeService;
 import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -24,6 +47,8 @@ import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -32,10 +57,21 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class EventServiceImpl implements EventService {
 
+  private static final int MAX_SCROLL_SIZE = 100;
+  private static final int MAX_SUGGESTIONS = 20;
+
   private final UserRepository userRepository;
   private final EventRepository eventRepository;
+  private final TicketTypeRepository ticketTypeRepository;
+  private final OrganizerStatsService organizerStatsService;
+  private final QrCodeService qrCodeService;
+  private final EventSalesRollupRepository eventSalesRollupRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final Optional<EventSearchIndex> eventSearchIndex;
+  private final BulkheadRegistry bulkheadRegistry;
 
   @Override
+  @Bulkhead(BulkheadTypeEnum.WRITE)
   @Transactional
   public Event createEvent(UUID organizerId, CreateEventRequest event) {
     User organizer = userRepository.findById(organizerId)
@@ -66,20 +102,48 @@ public class EventServiceImpl implements EventService {
     eventToCreate.setOrganizer(organizer);
     eventToCreate.setTicketTypes(ticketTypesToCreate);
 
-    return eventRepository.save(eventToCreate);
+    OrganizerStatsDelta contribution = organizerStatsService.contributionOf(eventToCreate);
+    Event createdEvent = eventRepository.save(eventToCreate);
+    organizerStatsService.apply(organizerId, contribution);
+    eventPublisher.publishEvent(new EventChangedEvent(createdEvent.getId(), organizerId));
+    return createdEvent;
   }
 
   @Override
+  @Bulkhead(BulkheadTypeEnum.ACCOUNT)
+  @Transactional
   public Page<Event> listEventsForOrganizer(UUID organizerId, Pageable pageable) {
-    return eventRepository.findByOrganizerId(organizerId, pageable);
+    Page<Event> events = eventRepository.findByOrganizerId(organizerId, pageable);
+    fetchTicketTypes(events.getContent());
+    return events;
+  }
+
+  @Override
+  @Bulkhead(BulkheadTypeEnum.ACCOUNT)
+  @Transactional
+  public CursorPage<Event> scrollEventsForOrganizer(UUID organizerId, String cursor, int size) {
+    int limit = scrollLimit(size);
+    List<Event> events;
+    if (null == cursor) {
+      events = eventRepository.scrollByOrganizerId(organizerId, Limit.of(limit + 1));
+    } else {
+      EventCursor after = EventCursor.decode(cursor);
+      events = eventRepository.scrollByOrganizerIdAfter(
+          organizerId, after.createdAt(), after.id(), Limit.of(limit + 1));
+    }
+    fetchTicketTypes(events);
+    return CursorPage.of(events, limit, EventServiceImpl::cursorOf);
   }
 
   @Override
+  @Bulkhead(BulkheadTypeEnum.ACCOUNT)
+  @Transactional
   public Optional<Event> getEventForOrganizer(UUID organizerId, UUID id) {
     return eventRepository.findByIdAndOrganizerId(id, organizerId);
   }
 
   @Override
+  @Bulkhead(BulkheadTypeEnum.WRITE)
   @Transactional
   public Event updateEventForOrganizer(UUID organizerId, UUID id, UpdateEventRequest event) {
     if (null == event.getId()) {
@@ -90,12 +154,20 @@ public class EventServiceImpl implements EventService {
       throw new EventUpdateException("Cannot update the ID of an event");
     }
 
-    Event existingEvent = eventRepository
-        .findByIdAndOrganizerId(id, organizerId)
+    Event existingEvent = lockEventForOrganizer(organizerId, id)
         .orElseThrow(() -> new EventNotFoundException(
             String.format("Event with ID '%s' does not exist", id))
         );
 
+    OrganizerStatsDelta previousContribution = organizerStatsService.contributionOf(existingEvent);
+    // Sales only change here when a price changes or a ticket type with archived sales is
+    // removed; the ticket type locks keep the sold counts read for that still until commit
+    Map<UUID, TicketTypeStatsView> salesByTicketType = ticketTypeRepository
+        .findStatsByEvent(id, organizerId).stream()
+        .filter(sales -> null != sales.getTicketTypeId())
+        .collect(Collectors.toMap(TicketTypeStatsView::getTicketTypeId, Function.identity()));
+    OrganizerStatsDelta salesChange = new OrganizerStatsDelta();
+
     existingEvent.setName(event.getName());
     existingEvent.setStart(event.getStart());
     existingEvent.setEnd(event.getEnd());
@@ -110,6 +182,18 @@ public class EventServiceImpl implements EventService {
         .filter(Objects::nonNull)
         .collect(Collectors.toSet());
 
+    // Live tickets keep a ticket type from being removed, but archived sales go with it
+    for (TicketType existingTicketType : existingEvent.getTicketTypes()) {
+      TicketTypeStatsView sales = salesByTicketType.get(existingTicketType.getId());
+      if (null != sales && !requestTicketTypeIds.contains(existingTicketType.getId())) {
+        salesChange = salesChange.minus(OrganizerStatsDelta.builder()
+            .totalTicketsSold(sales.getTicketsSold())
+            .totalRevenue(sales.getRevenue())
+            .totalAttendances(sales.getCheckIns())
+            .build());
+      }
+    }
+
     existingEvent.getTicketTypes().removeIf(existingTicketType ->
         !requestTicketTypeIds.contains(existingTicketType.getId())
     );
@@ -131,6 +215,13 @@ public class EventServiceImpl implements EventService {
       } else if (existingTicketTypesIndex.containsKey(ticketType.getId())) {
         // Update
         TicketType existingTicketType = existingTicketTypesIndex.get(ticketType.getId());
+        TicketTypeStatsView sales = salesByTicketType.get(existingTicketType.getId());
+        if (null != sales && !Objects.equals(existingTicketType.getPrice(), ticketType.getPrice())) {
+          salesChange = salesChange.plus(OrganizerStatsDelta.builder()
+              .totalRevenue(sales.getTicketsSold()
+                  * (price(ticketType.getPrice()) - price(existingTicketType.getPrice())))
+              .build());
+        }
         existingTicketType.setName(ticketType.getName());
         existingTicketType.setPrice(ticketType.getPrice());
         existingTicketType.setDescription(ticketType.getDescription());
@@ -142,29 +233,170 @@ public class EventServiceImpl implements EventService {
       }
     }
 
-    return eventRepository.save(existingEvent);
+    // Flush so that a rejected ticket type removal fails before the counters move
+    Event updatedEvent = eventRepository.saveAndFlush(existingEvent);
+    organizerStatsService.apply(organizerId, organizerStatsService.contributionOf(updatedEvent)
+        .minus(previousContribution)
+        .plus(salesChange));
+    eventPublisher.publishEvent(new EventChangedEvent(updatedEvent.getId(), organizerId));
+    return updatedEvent;
   }
 
   @Override
+  @Bulkhead(BulkheadTypeEnum.WRITE)
   @Transactional
   public void deleteEventForOrganizer(UUID organizerId, UUID id) {
-    getEventForOrganizer(organizerId, id).ifPresent(eventRepository::delete);
+    lockEventForOrganizer(organizerId, id).ifPresent(event -> {
+      OrganizerStatsDelta contribution = organizerStatsService.contributionOf(event)
+          .plus(organizerStatsService.salesOf(id));
+      eventRepository.delete(event);
+      eventRepository.flush();
+      eventSalesRollupRepository.deleteByEventId(id);
+      organizerStatsService.apply(organizerId, contribution.negate());
+      eventPublisher.publishEvent(new EventDeletedEvent(id, organizerId));
+    });
+  }
+
+  // The row lock makes concurrent archival runs complete (and count) each event once. Only the
+  // event counters move: completing an event leaves its sales as they are.
+  @Override
+  @Transactional
+  public boolean completeEvent(UUID id) {
+    Optional<Event> candidate = eventRepository.findByIdWithLock(id)
+        .filter(event -> EventStatusEnum.PUBLISHED.equals(event.getStatus()))
+        .filter(event -> null != event.getEnd() && event.getEnd().isBefore(LocalDateTime.now()));
+    if (candidate.isEmpty()) {
+      return false;
+    }
+
+    Event event = candidate.get();
+    UUID organizerId = event.getOrganizer().getId();
+    OrganizerStatsDelta previousContribution = organizerStatsService.contributionOf(event);
+    event.setStatus(EventStatusEnum.COMPLETED);
+    Event completedEvent = eventRepository.saveAndFlush(event);
+    qrCodeService.expireQrCodesForEvent(id);
+    organizerStatsService.apply(organizerId,
+        organizerStatsService.contributionOf(completedEvent).minus(previousContribution));
+    eventPublisher.publishEvent(new EventChangedEvent(id, organizerId));
+    return true;
+  }
+
+  // Locks the event row, so concurrent edits, deletion and completion of the event apply their
+  // counter deltas one at a time, then its ticket type rows, which purchases lock as well
+  private Optional<Event> lockEventForOrganizer(UUID organizerId, UUID id) {
+    Optional<Event> event = eventRepository.findByIdWithLock(id)
+        .filter(candidate -> organizerId.equals(candidate.getOrganizer().getId()));
+    event.ifPresent(locked -> ticketTypeRepository.findByEventIdWithLock(id));
+    return event;
+  }
+
+  private static double price(Double price) {
+    return null == price ? 0.0 : price;
   }
 
   @Override
+  @Bulkhead(BulkheadTypeEnum.PUBLIC_READ)
+  @ReadOnlyTransactional
   public Page<Event> listPublishedEvents(Pageable pageable) {
     return eventRepository.findByStatus(EventStatusEnum.PUBLISHED, pageable);
   }
 
   @Override
-  public Page<Event> searchPublishedEvents(String query, Pageable pageable) {
-    return eventRepository.searchEvents(query, pageable);
+  @Bulkhead(BulkheadTypeEnum.PUBLIC_READ)
+  @ReadOnlyTransactional
+  public Page<PublishedEventSummaryView> listPublishedEventSummaries(Pageable pageable) {
+    return eventRepository.findByStatus(EventStatusEnum.PUBLISHED, pageable,
+        PublishedEventSummaryView.class);
+  }
+
+  @Override
+  @Bulkhead(BulkheadTypeEnum.PUBLIC_READ)
+  @ReadOnlyTransactional
+  public Page<Event> listPublishedEvents(PublishedEventFilter filter, Pageable pageable) {
+    if (filter.isEmpty()) {
+      return listPublishedEvents(pageable);
+    }
+    validatePriceRange(filter);
+    return eventRepository.findAll(EventSpecifications.publishedMatching(filter), pageable);
   }
 
   @Override
+  @Bulkhead(BulkheadTypeEnum.PUBLIC_READ)
+  @ReadOnlyTransactional
+  public PublishedEventFacets getPublishedEventFacets(PublishedEventFilter filter) {
+    validatePriceRange(filter);
+    return eventRepository.findFacets(filter);
+  }
+
+  private void validatePriceRange(PublishedEventFilter filter) {
+    if (null != filter.minPrice() && null != filter.maxPrice()
+        && filter.minPrice() >= filter.maxPrice()) {
+      throw new InvalidRequestException("minPrice must be less than maxPrice");
+    }
+  }
+
+  @Override
+  @Bulkhead(BulkheadTypeEnum.PUBLIC_READ)
+  @ReadOnlyTransactional
+  public CursorPage<Event> scrollPublishedEvents(String cursor, int size) {
+    int limit = scrollLimit(size);
+    List<Event> events;
+    if (null == cursor) {
+      events = eventRepository.scrollByStatus(EventStatusEnum.PUBLISHED, Limit.of(limit + 1));
+    } else {
+      EventCursor after = EventCursor.decode(cursor);
+      events = eventRepository.scrollByStatusAfter(
+          EventStatusEnum.PUBLISHED, after.createdAt(), after.id(), Limit.of(limit + 1));
+    }
+    return CursorPage.of(events, limit, EventServiceImpl::cursorOf);
+  }
+
+  // The in-memory index needs no connection; only the database fallback takes a permit
+  @Override
+  public Page<Event> searchPublishedEvents(String query, Pageable pageable,
+      ContentVersion listingVersion) {
+    return eventSearchIndex
+        .filter(index -> index.isAt(listingVersion))
+        .map(index -> index.search(query, pageable))
+        .orElseGet(() -> bulkheadRegistry.call(BulkheadTypeEnum.PUBLIC_READ,
+            () -> eventRepository.searchEvents(query, pageable)));
+  }
+
+  @Override
+  @Bulkhead(BulkheadTypeEnum.PUBLIC_READ)
+  @ReadOnlyTransactional
   public Optional<Event> getPublishedEvent(UUID id) {
     return eventRepository.findByIdAndStatus(id, EventStatusEnum.PUBLISHED);
   }
 
+  @Override
+  @Bulkhead(BulkheadTypeEnum.PUBLIC_READ)
+  public boolean isPublished(UUID id) {
+    return eventRepository.existsByIdAndStatus(id, EventStatusEnum.PUBLISHED);
+  }
+
+  @Override
+  @Bulkhead(BulkheadTypeEnum.PUBLIC_READ)
+  @ReadOnlyTransactional
+  public List<EventSuggestionView> suggestPublishedEvents(String query, int limit) {
+    String term = null == query ? "" : query.trim();
+    if (term.isEmpty()) {
+      return List.of();
+    }
+    return eventRepository.suggestPublished(term, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+  }
 
+  private static int scrollLimit(int size) {
+    return Math.max(1, Math.min(size, MAX_SCROLL_SIZE));
+  }
+
+  private static String cursorOf(Event event) {
+    return new EventCursor(event.getCreatedAt(), event.getId()).encode();
+  }
+
+  private void fetchTicketTypes(List<Event> events) {
+    if (!events.isEmpty()) {
+      eventRepository.fetchTicketTypes(events);
+    }
+  }
 }
@@ -0,0 +1,124 @@
+package com.capstone.tickets.services.impl;
+
+import com.capstone.tickets.domain.OrganizerStatsDelta;
+import com.capstone.tickets.domain.entities.Event;
+import com.capstone.tickets.domain.entities.EventStatusEnum;
+import com.capstone.tickets.domain.entities.OrganizerStats;
+import com.capstone.tickets.domain.entities.Ticket;
+import com.capstone.tickets.domain.entities.TicketType;
+import com.capstone.tickets.domain.entities.TicketValidation;
+import com.capstone.tickets.domain.entities.TicketValidationStatusEnum;
+import com.capstone.tickets.domain.projections.OrganizerSummaryView;
+import com.capstone.tickets.repositories.OrganizerStatsRepository;
+import com.capstone.tickets.repositories.TicketRepository;
+import com.capstone.tickets.repositories.TicketValidationRepository;
+import com.capstone.tickets.services.OrganizerStatsService;
+import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrganizerStatsServiceImpl implements OrganizerStatsService {
+
+  private final OrganizerStatsRepository organizerStatsRepository;
+  private final TicketRepository ticketRepository;
+  private final TicketValidationRepository ticketValidationRepository;
+
+  @Override
+  @Transactional
+  public OrganizerStats getStats(UUID organizerId) {
+    return organizerStatsRepository.findById(organizerId).orElseGet(() -> {
+      backfill(organizerId);
+      return organizerStatsRepository.findById(organizerId).orElseThrow();
+    });
+  }
+
+  @Override
+  public OrganizerSummaryView computeSummary(UUID organizerId) {
+    return organizerStatsRepository.summarize(organizerId);
+  }
+
+  @Override
+  public OrganizerStatsDelta contributionOf(Event event) {
+    return OrganizerStatsDelta.builder()
+        .totalEvents(1)
+        .publishedEvents(EventStatusEnum.PUBLISHED.equals(event.getStatus()) ? 1 : 0)
+        .draftEvents(EventStatusEnum.DRAFT.equals(event.getStatus()) ? 1 : 0)
+        .totalTicketTypes(event.getTicketTypes().size())
+        .totalTicketsAvailable(event.getTicketTypes().stream()
+            .map(TicketType::getTotalAvailable)
+            .filter(Objects::nonNull)
+            .mapToLong(Integer::longValue)
+            .sum())
+        .build();
+  }
+
+  @Override
+  public OrganizerStatsDelta salesOf(UUID eventId) {
+    Double revenue = ticketRepository.sumRevenueByEvent(eventId);
+    return OrganizerStatsDelta.builder()
+        .totalTicketsSold(ticketRepository.countByEvent(eventId))
+        .totalRevenue(null == revenue ? 0.0 : revenue)
+        .totalAttendances(ticketValidationRepository.countValidByEvent(eventId))
+        .build();
+  }
+
+  @Override
+  @Transactional
+  public void apply(UUID organizerId, OrganizerStatsDelta delta) {
+    if (organizerStatsRepository.applyDelta(organizerId, delta, LocalDateTime.now()) > 0) {
+      return;
+    }
+    // No counters yet: the backfill already sees this transaction's change. If another
+    // transaction created the row first, its totals do not include our change, so apply it.
+    if (!backfill(organizerId)) {
+      organizerStatsRepository.applyDelta(organizerId, delta, LocalDateTime.now());
+    }
+  }
+
+  @Override
+  public void recordTicketPurchased(Ticket ticket) {
+    TicketType ticketType = ticket.getTicketType();
+    apply(ticketType.getEvent().getOrganizer().getId(), OrganizerStatsDelta.builder()
+        .totalTicketsSold(ticket.getQuantity())
+        .totalRevenue(ticketType.getPrice() * ticket.getQuantity())
+        .build());
+  }
+
+  @Override
+  public void recordTicketValidated(TicketValidation ticketValidation) {
+    if (!TicketValidationStatusEnum.VALID.equals(ticketValidation.getStatus())) {
+      return;
+    }
+    UUID organizerId = ticketValidation.getTicket().getTicketType().getEvent().getOrganizer()
+        .getId();
+    apply(organizerId, OrganizerStatsDelta.builder().totalAttendances(1).build());
+  }
+
+  // The row lock holds back every counter update until the reset commits. Writers change the
+  // source tables before they update the counters, so a write not yet visible to the summary
+  // has not applied its delta either, and applies it on top of the reset once the lock is free.
+  @Override
+  @Transactional
+  public boolean reconcile(UUID organizerId) {
+    if (organizerStatsRepository.lockById(organizerId).isEmpty()) {
+      return false;
+    }
+    if (organizerStatsRepository.resetToSummary(organizerId, LocalDateTime.now()) == 0) {
+      return false;
+    }
+    log.warn("Organizer stats for {} had drifted from the source tables and were reset",
+        organizerId);
+    return true;
+  }
+
+  private boolean backfill(UUID organizerId) {
+    return organizerStatsRepository.insertIfAbsent(organizerId, LocalDateTime.now()) > 0;
+  }
+}
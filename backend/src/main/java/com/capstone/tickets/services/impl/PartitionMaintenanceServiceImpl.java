@@ -0,0 +1,52 @@
+package com.capstone.tickets.services.impl;
+
+import com.capstone.tickets.repositories.TicketRepository;
+import com.capstone.tickets.services.PartitionMaintenanceService;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PartitionMaintenanceServiceImpl implements PartitionMaintenanceService {
+
+  /**
+   * Partitions have to exist before the first ticket of an event created in that month is sold,
+   * otherwise its rows land in the default partition and the month can no longer be attached.
+   */
+  @Value("${app.partitions.months-ahead:3}")
+  private int monthsAhead;
+
+  private final TicketRepository ticketRepository;
+
+  @Override
+  public int ensureEventPartitions() {
+    LocalDate currentMonth = LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1);
+    int created = ticketRepository.ensureEventPartitions(currentMonth, monthsAhead + 1);
+    if (created > 0) {
+      log.info("Created {} event partitions through {}", created,
+          currentMonth.plusMonths(monthsAhead));
+    }
+    return created;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      initialDelayString = "${app.partitions.maintenance-interval:PT12H}",
+      fixedDelayString = "${app.partitions.maintenance-interval:PT12H}")
+  public void maintainPartitions() {
+    try {
+      ensureEventPartitions();
+    } catch (DataAccessException ex) {
+      log.error("Unable to create event partitions", ex);
+    }
+  }
+}
@@ -0,0 +1,136 @@
+package com.capstone.tickets.services.impl;
+
+import com.capstone.tickets.bulkheads.Bulkhead;
+import com.capstone.tickets.bulkheads.BulkheadRegistry;
+import com.capstone.tickets.bulkheads.BulkheadTypeEnum;
+import com.capstone.tickets.domain.ContentVersion;
+import com.capstone.tickets.domain.EventAvailability;
+import com.capstone.tickets.domain.VersionedContent;
+import com.capstone.tickets.domain.dtos.GetPublishedEventDetailsResponseDto;
+import com.capstone.tickets.domain.dtos.ListPublishedEventResponseDto;
+import com.capstone.tickets.mappers.EventMapper;
+import com.capstone.tickets.repositories.EventRepository;
+import com.capstone.tickets.services.EventService;
+import com.capstone.tickets.services.PublishedEventService;
+import com.capstone.tickets.services.TicketAvailabilityService;
+import com.github.benmanes.caffeine.cache.Cache;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class PublishedEventServiceImpl implements PublishedEventService {
+
+  private final EventService eventService;
+  private final EventRepository eventRepository;
+  private final EventMapper eventMapper;
+  private final TicketAvailabilityService ticketAvailabilityService;
+  private final Cache<UUID, VersionedContent<GetPublishedEventDetailsResponseDto>>
+      publishedEventDetailsCache;
+  private final Cache<Pageable, VersionedContent<Page<ListPublishedEventResponseDto>>>
+      publishedEventListingCache;
+  private final Cache<String, ContentVersion> publishedListingVersionCache;
+  private final BulkheadRegistry bulkheadRegistry;
+
+  // Unknown or unpublished ids load as null and are therefore not cached
+  @Override
+  public Optional<GetPublishedEventDetailsResponseDto> getPublishedEventDetails(UUID eventId,
+      ContentVersion version) {
+    return Optional.ofNullable(atVersion(publishedEventDetailsCache, eventId, version,
+        this::loadDetails));
+  }
+
+  // Only the first page is cached; deeper pages are rarely shared between visitors
+  @Override
+  public Page<ListPublishedEventResponseDto> listPublishedEvents(Pageable pageable,
+      ContentVersion version) {
+    if (pageable.isPaged() && pageable.getPageNumber() > 0) {
+      return loadListing(pageable);
+    }
+    return atVersion(publishedEventListingCache, pageable, version, this::loadListing);
+  }
+
+  @Override
+  @Bulkhead(BulkheadTypeEnum.PUBLIC_READ)
+  public Optional<ContentVersion> getPublishedEventVersion(UUID eventId) {
+    return eventRepository.findPublishedVersion(eventId)
+        .map(version -> ContentVersion.of(eventId.toString(), version));
+  }
+
+  @Override
+  public ContentVersion getPublishedListingVersion() {
+    return publishedListingVersionCache.get(ContentVersion.LISTING_SCOPE, scope ->
+        bulkheadRegistry.call(BulkheadTypeEnum.PUBLIC_READ,
+            () -> ContentVersion.of(scope, eventRepository.findPublishedListingVersion())));
+  }
+
+  @Override
+  public void incrementEventVersion(UUID eventId) {
+    eventRepository.incrementPublishedVersion(eventId, LocalDateTime.now());
+  }
+
+  @Override
+  public void incrementListingVersion() {
+    eventRepository.incrementPublishedListingVersion(LocalDateTime.now());
+  }
+
+  @Override
+  public void evict(UUID eventId) {
+    publishedEventDetailsCache.invalidate(eventId);
+    publishedEventListingCache.invalidateAll();
+    publishedListingVersionCache.invalidateAll();
+  }
+
+  // Reuses the cached body only while it was built at the version the caller is answering with;
+  // a write or purchase through any instance moves the version on and forces a reload, so a new
+  // ETag never goes out with an old body. Concurrent reloads of a key block on a single load.
+  private static <K, T> T atVersion(Cache<K, VersionedContent<T>> cache, K key,
+      ContentVersion version, Function<K, T> loader) {
+    VersionedContent<T> cached = cache.getIfPresent(key);
+    if (null == cached || !cached.isAt(version)) {
+      cached = cache.asMap().compute(key, (id, current) -> {
+        if (null != current && current.isAt(version)) {
+          return current;
+        }
+        T content = loader.apply(id);
+        return null == content ? null : new VersionedContent<>(version, content);
+      });
+    }
+    return null == cached ? null : cached.content();
+  }
+
+  // The version covers purchases made through every instance, so the local availability
+  // snapshot is reloaded along with the details rather than trusted
+  private GetPublishedEventDetailsResponseDto loadDetails(UUID eventId) {
+    return eventService.getPublishedEvent(eventId)
+        .map(eventMapper::toGetPublishedEventDetailsResponseDto)
+        .map(details -> {
+          ticketAvailabilityService.evict(eventId);
+          return withAvailability(details, ticketAvailabilityService.getAvailability(eventId));
+        })
+        .orElse(null);
+  }
+
+  // Copies rather than mutates, as the mapped instance is built from the event entity
+  private GetPublishedEventDetailsResponseDto withAvailability(
+      GetPublishedEventDetailsResponseDto details, EventAvailability availability) {
+    return details.toBuilder()
+        .ticketTypes(details.getTicketTypes().stream()
+            .map(ticketType -> ticketType.toBuilder()
+                .remaining(availability.remaining(ticketType.getId()))
+                .build())
+            .toList())
+        .build();
+  }
+
+  private Page<ListPublishedEventResponseDto> loadListing(Pageable pageable) {
+    return eventService.listPublishedEventSummaries(pageable)
+        .map(eventMapper::toListPublishedEventResponseDto);
+  }
+}
@@ -1,5 +1,7 @@
 package com.capstone.tickets.services.impl;
 
+import com.capstone.tickets.bulkheads.Bulkhead;
+import com.capstone.tickets.bulkheads.BulkheadTypeEnum;
 import com.capstone.tickets.domain.entities.QrCode;
 import com.capstone.tickets.domain.entities.QrCodeStatusEnum;
 import com.capstone.tickets.domain.entities.Ticket;
@@ -7,14 +9,17 @@ import com.capstone.tickets.exceptions.QrCodeGenerationException;
 import com.capstone.tickets.exceptions.QrCodeNotFoundException;
 import com.capstone.tickets.repositories.QrCodeRepository;
 import com.capstone.tickets.services.QrCodeService;
+import com.capstone.tickets.util.UuidV7;
 import com.google.zxing.BarcodeFormat;
 import com.google.zxing.WriterException;
 import com.google.zxing.client.j2se.MatrixToImageWriter;
 import com.google.zxing.common.BitMatrix;
 import com.google.zxing.qrcode.QRCodeWriter;
+import jakarta.transaction.Transactional;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.Base64;
 import java.util.UUID;
 import javax.imageio.ImageIO;
@@ -36,7 +41,7 @@ public class QrCodeServiceImpl implements QrCodeService {
   @Override
   public QrCode generateQrCode(Ticket ticket) {
     try {
-      UUID uniqueId = UUID.randomUUID();
+      UUID uniqueId = UuidV7.generate();
       String qrCodeImage = generateQrCodeImage(uniqueId);
 
       QrCode qrCode = new QrCode();
@@ -45,14 +50,17 @@ public class QrCodeServiceImpl implements QrCodeService {
       qrCode.setValue(qrCodeImage);
       qrCode.setTicket(ticket);
 
-      return qrCodeRepository.saveAndFlush(qrCode);
+      return qrCodeRepository.save(qrCode);
 
     } catch(IOException | WriterException ex) {
       throw new QrCodeGenerationException("Failed to generate QR Code", ex);
     }
   }
 
+  // Read-write so the lookup stays on the primary, like the attendee's ticket reads
   @Override
+  @Bulkhead(BulkheadTypeEnum.ACCOUNT)
+  @Transactional
   public byte[] getQrCodeImageForUserAndTicket(UUID userId, UUID ticketId) {
     QrCode qrCode = qrCodeRepository.findByTicketIdAndTicketPurchaserId(ticketId, userId)
         .orElseThrow(QrCodeNotFoundException::new);
@@ -65,6 +73,13 @@ public class QrCodeServiceImpl implements QrCodeService {
     }
   }
 
+  @Override
+  @Transactional
+  public int expireQrCodesForEvent(UUID eventId) {
+    return qrCodeRepository.updateStatusByEventId(eventId, QrCodeStatusEnum.EXPIRED,
+        LocalDateTime.now());
+  }
+
   private String generateQrCodeImage(UUID uniqueId) throws WriterException, IOException {
     BitMatrix bitMatrix = qrCodeWriter.encode(
         uniqueId.toString(),
@@ -0,0 +1,94 @@
+package com.capstone.tickets.services.impl;
+
+import com.capstone.tickets.bulkheads.Bulkhead;
+import com.capstone.tickets.bulkheads.BulkheadTypeEnum;
+import com.capstone.tickets.config.ReadOnlyTransactional;
+import com.capstone.tickets.domain.entities.EventSalesRollup;
+import com.capstone.tickets.domain.entities.RollupGranularityEnum;
+import com.capstone.tickets.domain.entities.Ticket;
+import com.capstone.tickets.domain.entities.TicketType;
+import com.capstone.tickets.domain.entities.TicketValidation;
+import com.capstone.tickets.domain.entities.TicketValidationStatusEnum;
+import com.capstone.tickets.exceptions.EventNotFoundException;
+import com.capstone.tickets.exceptions.InvalidRequestException;
+import com.capstone.tickets.repositories.EventRepository;
+import com.capstone.tickets.repositories.EventSalesRollupRepository;
+import com.capstone.tickets.services.SalesAnalyticsService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class SalesAnalyticsServiceImpl implements SalesAnalyticsService {
+
+  private static final long MAX_BUCKETS = 10_000;
+
+  private final EventSalesRollupRepository eventSalesRollupRepository;
+  private final EventRepository eventRepository;
+
+  @Override
+  public void recordTicketPurchased(Ticket ticket) {
+    TicketType ticketType = ticket.getTicketType();
+    increment(ticketType, ticket.getCreatedAt(), ticket.getQuantity(),
+        ticketType.getPrice() * ticket.getQuantity(), 0);
+  }
+
+  @Override
+  public void recordTicketValidated(TicketValidation ticketValidation) {
+    if (!TicketValidationStatusEnum.VALID.equals(ticketValidation.getStatus())) {
+      return;
+    }
+    increment(ticketValidation.getTicket().getTicketType(), ticketValidation.getCreatedAt(), 0,
+        0.0, 1);
+  }
+
+  @Override
+  @Bulkhead(BulkheadTypeEnum.ANALYTICS)
+  @ReadOnlyTransactional
+  public List<EventSalesRollup> getEventSales(UUID organizerId, UUID eventId,
+      RollupGranularityEnum granularity, LocalDateTime from, LocalDateTime to) {
+    if (!eventRepository.existsByIdAndOrganizerId(eventId, organizerId)) {
+      throw new EventNotFoundException(
+          String.format("Event with ID '%s' does not exist", eventId));
+    }
+
+    LocalDateTime rangeEnd = null == to ? LocalDateTime.now() : to;
+    LocalDateTime rangeStart = null == from ? rangeEnd.minus(defaultRange(granularity)) : from;
+    if (!rangeStart.isBefore(rangeEnd)) {
+      throw new InvalidRequestException("Range start must be before range end");
+    }
+    if (granularity.bucketsBetween(rangeStart, rangeEnd) > MAX_BUCKETS) {
+      throw new InvalidRequestException(String.format(
+          "Range spans more than %d %s buckets", MAX_BUCKETS, granularity));
+    }
+
+    return eventSalesRollupRepository.findRange(eventId, granularity,
+        granularity.bucketStart(rangeStart), rangeEnd);
+  }
+
+  private void increment(TicketType ticketType, LocalDateTime at, long ticketsSold,
+      double revenue, long checkIns) {
+    LocalDateTime timestamp = null == at ? LocalDateTime.now() : at;
+    eventSalesRollupRepository.increment(
+        ticketType.getEvent().getId(),
+        ticketType.getId(),
+        RollupGranularityEnum.MINUTE.bucketStart(timestamp),
+        RollupGranularityEnum.HOUR.bucketStart(timestamp),
+        RollupGranularityEnum.DAY.bucketStart(timestamp),
+        ticketsSold,
+        revenue,
+        checkIns);
+  }
+
+  private static Duration defaultRange(RollupGranularityEnum granularity) {
+    return switch (granularity) {
+      case MINUTE -> Duration.ofHours(1);
+      case HOUR -> Duration.ofDays(2);
+      case DAY -> Duration.ofDays(30);
+    };
+  }
+}
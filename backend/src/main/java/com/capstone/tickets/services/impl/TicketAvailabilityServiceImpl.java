@@ -0,0 +1,82 @@
+package com.capstone.tickets.services.impl;
+
+import com.capstone.tickets.bulkheads.BulkheadRegistry;
+import com.capstone.tickets.bulkheads.BulkheadTypeEnum;
+import com.capstone.tickets.domain.EventAvailability;
+import com.capstone.tickets.domain.EventAvailability.TicketTypeAvailability;
+import com.capstone.tickets.domain.entities.EventStatusEnum;
+import com.capstone.tickets.domain.projections.TicketTypeAvailabilityView;
+import com.capstone.tickets.repositories.TicketTypeRepository;
+import com.capstone.tickets.services.TicketAvailabilityService;
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Serves remaining availability from per-event snapshots. A snapshot is loaded with one grouped
+ * query, then kept current by committed purchases on this instance; its TTL bounds how long
+ * purchases made through other instances can go unseen. Only loads take a public-read permit;
+ * cache hits never touch the database.
+ */
+@Service
+@RequiredArgsConstructor
+public class TicketAvailabilityServiceImpl implements TicketAvailabilityService {
+
+  private final TicketTypeRepository ticketTypeRepository;
+  private final Cache<UUID, EventAvailability> ticketAvailabilityCache;
+  private final BulkheadRegistry bulkheadRegistry;
+
+  @Override
+  public EventAvailability getAvailability(UUID eventId) {
+    return ticketAvailabilityCache.get(eventId, id ->
+        bulkheadRegistry.call(BulkheadTypeEnum.PUBLIC_READ, () -> loadAvailability(id)));
+  }
+
+  // Snapshots already cached are reused; all missing ones load with a single grouped query
+  @Override
+  public Map<UUID, EventAvailability> getPublishedAvailability(Collection<UUID> eventIds) {
+    return ticketAvailabilityCache.getAll(eventIds, missing ->
+        bulkheadRegistry.call(BulkheadTypeEnum.PUBLIC_READ,
+            () -> loadPublishedAvailability(missing)));
+  }
+
+  // Only snapshots that are already loaded are updated; the next read loads the rest
+  @Override
+  public void recordPurchase(UUID eventId, UUID ticketTypeId, int quantity) {
+    ticketAvailabilityCache.asMap().computeIfPresent(eventId,
+        (id, availability) -> availability.withPurchase(ticketTypeId, quantity));
+  }
+
+  @Override
+  public void evict(UUID eventId) {
+    ticketAvailabilityCache.invalidate(eventId);
+  }
+
+  private EventAvailability loadAvailability(UUID eventId) {
+    return toAvailability(eventId, ticketTypeRepository.findAvailabilityByEvent(eventId));
+  }
+
+  private Map<UUID, EventAvailability> loadPublishedAvailability(Set<? extends UUID> eventIds) {
+    return ticketTypeRepository
+        .findAvailabilityByEvents(List.copyOf(eventIds), EventStatusEnum.PUBLISHED).stream()
+        .collect(Collectors.groupingBy(TicketTypeAvailabilityView::getEventId))
+        .entrySet().stream()
+        .collect(Collectors.toMap(Map.Entry::getKey,
+            entry -> toAvailability(entry.getKey(), entry.getValue())));
+  }
+
+  private EventAvailability toAvailability(UUID eventId, List<TicketTypeAvailabilityView> rows) {
+    Map<UUID, TicketTypeAvailability> ticketTypes = rows.stream()
+        .collect(Collectors.toUnmodifiableMap(
+            TicketTypeAvailabilityView::getTicketTypeId,
+            row -> new TicketTypeAvailability(row.getTotalAvailable(), row.getSold())));
+    long totalSold = ticketTypes.values().stream().mapToLong(TicketTypeAvailability::sold).sum();
+    return new EventAvailability(eventId, ticketTypes, totalSold);
+  }
+}
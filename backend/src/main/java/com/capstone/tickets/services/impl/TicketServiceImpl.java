@@ -1,9 +1,14 @@
 package com.capstone.tickets.services.impl;
 
+import com.capstone.tickets.bulkheads.Bulkhead;
+import com.capstone.tickets.bulkheads.BulkheadTypeEnum;
 import com.capstone.tickets.domain.dtos.TicketBookingRequest;
 import com.capstone.tickets.domain.entities.Ticket;
+import com.capstone.tickets.exceptions.InvalidRequestException;
 import com.capstone.tickets.repositories.TicketRepository;
 import com.capstone.tickets.services.TicketService;
+import com.capstone.tickets.services.TicketTypeService;
+import jakarta.transaction.Transactional;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -16,27 +21,34 @@ import org.springframework.stereotype.Service;
 public class TicketServiceImpl implements TicketService {
 
   private final TicketRepository ticketRepository;
+  private final TicketTypeService ticketTypeService;
 
+  // Not read-only: an attendee opens their tickets right after buying them, so these reads stay on
+  // the primary instead of a replica that may not have the purchase yet
   @Override
+  @Bulkhead(BulkheadTypeEnum.ACCOUNT)
+  @Transactional
   public Page<Ticket> listTicketsForUser(UUID userId, Pageable pageable) {
     return ticketRepository.findByPurchaserId(userId, pageable);
   }
 
   @Override
+  @Bulkhead(BulkheadTypeEnum.ACCOUNT)
+  @Transactional
   public Optional<Ticket> getTicketForUser(UUID userId, UUID ticketId) {
     return ticketRepository.findByIdAndPurchaserId(ticketId, userId);
   }
 
+  // Goes through the purchase path, so bookings are capacity-checked, get a QR code and update
+  // the organizer counters, sales rollups and published versions like any other purchase
   @Override
   public Ticket bookTickets(TicketBookingRequest request) {
-    Ticket ticket = Ticket.builder()
-        .status(request.getStatus())
-        .ticketType(request.getTicketType())
-        .purchaser(request.getPurchaser())
-        .quantity(request.getQuantity()) // Set the quantity
-        .build();
-
-    return ticketRepository.save(ticket);
+    if (null == request.getTicketType() || null == request.getTicketType().getId()
+        || null == request.getPurchaser() || null == request.getPurchaser().getId()) {
+      throw new InvalidRequestException("A booking needs a ticket type and a purchaser");
+    }
+    return ticketTypeService.purchaseTicket(request.getPurchaser().getId(),
+        request.getTicketType().getId(), request.getQuantity());
   }
 
   @Override
@@ -1,20 +1,29 @@
 package com.capstone.tickets.services.impl;
 
+import com.capstone.tickets.bulkheads.Bulkhead;
+import com.capstone.tickets.bulkheads.BulkheadTypeEnum;
+import com.capstone.tickets.domain.entities.EventStatusEnum;
 import com.capstone.tickets.domain.entities.Ticket;
 import com.capstone.tickets.domain.entities.TicketStatusEnum;
 import com.capstone.tickets.domain.entities.TicketType;
 import com.capstone.tickets.domain.entities.User;
+import com.capstone.tickets.domain.events.TicketPurchasedEvent;
+import com.capstone.tickets.exceptions.EventNotOnSaleException;
+import com.capstone.tickets.exceptions.InvalidRequestException;
 import com.capstone.tickets.exceptions.TicketTypeNotFoundException;
 import com.capstone.tickets.exceptions.TicketsSoldOutException;
 import com.capstone.tickets.exceptions.UserNotFoundException;
 import com.capstone.tickets.repositories.TicketRepository;
 import com.capstone.tickets.repositories.TicketTypeRepository;
 import com.capstone.tickets.repositories.UserRepository;
+import com.capstone.tickets.services.OrganizerStatsService;
 import com.capstone.tickets.services.QrCodeService;
+import com.capstone.tickets.services.SalesAnalyticsService;
 import com.capstone.tickets.services.TicketTypeService;
 import jakarta.transaction.Transactional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -25,12 +34,16 @@ public class TicketTypeServiceImpl implements TicketTypeService {
   private final TicketTypeRepository ticketTypeRepository;
   private final TicketRepository ticketRepository;
   private final QrCodeService qrCodeService;
+  private final OrganizerStatsService organizerStatsService;
+  private final SalesAnalyticsService salesAnalyticsService;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
+  @Bulkhead(BulkheadTypeEnum.WRITE)
   @Transactional
   public Ticket purchaseTicket(UUID userId, UUID ticketTypeId, int quantity) {
     if (quantity <= 0) {
-      throw new IllegalArgumentException("Quantity must be greater than 0");
+      throw new InvalidRequestException("Quantity must be greater than 0");
     }
 
     User user = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(
@@ -40,7 +53,14 @@ public class TicketTypeServiceImpl implements TicketTypeService {
         .orElseThrow(() -> new TicketTypeNotFoundException(
             String.format("Ticket type with ID %s was not found", ticketTypeId)));
 
-    int purchasedTickets = ticketRepository.countByTicketTypeId(ticketType.getId());
+    // Completed events are archived, and their ticket types must not sell again afterwards
+    if (EventStatusEnum.PUBLISHED != ticketType.getEvent().getStatus()) {
+      throw new EventNotOnSaleException(String.format(
+          "Event with ID %s is not on sale", ticketType.getEvent().getId()));
+    }
+
+    int purchasedTickets = ticketRepository.countByTicketTypeId(
+        ticketType.getEvent().getId(), ticketType.getId());
     Integer totalAvailable = ticketType.getTotalAvailable();
 
     if (purchasedTickets + quantity > totalAvailable) {
@@ -55,6 +75,13 @@ public class TicketTypeServiceImpl implements TicketTypeService {
 
     Ticket savedTicket = ticketRepository.save(ticket);
     qrCodeService.generateQrCode(savedTicket);
+    organizerStatsService.recordTicketPurchased(savedTicket);
+    salesAnalyticsService.recordTicketPurchased(savedTicket);
+    eventPublisher.publishEvent(new TicketPurchasedEvent(
+        ticketType.getEvent().getId(),
+        ticketType.getEvent().getOrganizer().getId(),
+        ticketType.getId(),
+        quantity));
 
     return ticketRepository.save(savedTicket);
   }
@@ -1,20 +1,27 @@
 package com.capstone.tickets.services.impl;
 
+import com.capstone.tickets.bulkheads.Bulkhead;
+import com.capstone.tickets.bulkheads.BulkheadTypeEnum;
+import com.capstone.tickets.domain.entities.Event;
 import com.capstone.tickets.domain.entities.QrCode;
 import com.capstone.tickets.domain.entities.QrCodeStatusEnum;
 import com.capstone.tickets.domain.entities.Ticket;
 import com.capstone.tickets.domain.entities.TicketValidation;
 import com.capstone.tickets.domain.entities.TicketValidationMethod;
 import com.capstone.tickets.domain.entities.TicketValidationStatusEnum;
+import com.capstone.tickets.domain.events.TicketValidatedEvent;
 import com.capstone.tickets.exceptions.QrCodeNotFoundException;
 import com.capstone.tickets.exceptions.TicketNotFoundException;
 import com.capstone.tickets.repositories.QrCodeRepository;
 import com.capstone.tickets.repositories.TicketRepository;
 import com.capstone.tickets.repositories.TicketValidationRepository;
+import com.capstone.tickets.services.OrganizerStatsService;
+import com.capstone.tickets.services.SalesAnalyticsService;
 import com.capstone.tickets.services.TicketValidationService;
 import jakarta.transaction.Transactional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -25,10 +32,18 @@ public class TicketValidationServiceImpl implements TicketValidationService {
   private final QrCodeRepository qrCodeRepository;
   private final TicketValidationRepository ticketValidationRepository;
   private final TicketRepository ticketRepository;
+  private final OrganizerStatsService organizerStatsService;
+  private final SalesAnalyticsService salesAnalyticsService;
+  private final ApplicationEventPublisher eventPublisher;
 
+  // QR and ticket ids carry no event, so a lookup without eventId probes the primary key index of
+  // every month partition
   @Override
-  public TicketValidation validateTicketByQrCode(UUID qrCodeId) {
-    QrCode qrCode = qrCodeRepository.findByIdAndStatus(qrCodeId, QrCodeStatusEnum.ACTIVE)
+  @Bulkhead(BulkheadTypeEnum.WRITE)
+  public TicketValidation validateTicketByQrCode(UUID qrCodeId, UUID eventId) {
+    QrCode qrCode = (null == eventId
+        ? qrCodeRepository.findByIdAndStatus(qrCodeId, QrCodeStatusEnum.ACTIVE)
+        : qrCodeRepository.findByIdAndEventIdAndStatus(qrCodeId, eventId, QrCodeStatusEnum.ACTIVE))
         .orElseThrow(() -> new QrCodeNotFoundException(
             String.format(
                 "QR Code with ID %s was not found", qrCodeId
@@ -54,12 +69,22 @@ public class TicketValidationServiceImpl implements TicketValidationService {
 
     ticketValidation.setStatus(ticketValidationStatus);
 
-    return ticketValidationRepository.save(ticketValidation);
+    TicketValidation savedValidation = ticketValidationRepository.save(ticketValidation);
+    organizerStatsService.recordTicketValidated(savedValidation);
+    salesAnalyticsService.recordTicketValidated(savedValidation);
+
+    Event event = ticket.getTicketType().getEvent();
+    eventPublisher.publishEvent(new TicketValidatedEvent(event.getId(),
+        event.getOrganizer().getId()));
+    return savedValidation;
   }
 
   @Override
-  public TicketValidation validateTicketManually(UUID ticketId) {
-    Ticket ticket = ticketRepository.findById(ticketId)
+  @Bulkhead(BulkheadTypeEnum.WRITE)
+  public TicketValidation validateTicketManually(UUID ticketId, UUID eventId) {
+    Ticket ticket = (null == eventId
+        ? ticketRepository.findById(ticketId)
+        : ticketRepository.findByIdAndEventId(ticketId, eventId))
         .orElseThrow(TicketNotFoundException::new);
     return validateTicket(ticket, TicketValidationMethod.MANUAL);
   }
@@ -0,0 +1,34 @@
+package com.capstone.tickets.util;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * RFC 9562 version 7 UUIDs: a 48-bit Unix millisecond timestamp followed by 74 random bits.
+ * Values sort by creation time, so new rows append to the right edge of B-tree indexes instead
+ * of landing on random pages, while staying as unguessable as v4 for QR code ids.
+ */
+public final class UuidV7 {
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  private UuidV7() {
+  }
+
+  public static UUID generate() {
+    byte[] random = new byte[10];
+    RANDOM.nextBytes(random);
+
+    long timestamp = System.currentTimeMillis();
+    long mostSigBits = (timestamp << 16)
+        | 0x7000L
+        | ((random[0] & 0x0FL) << 8)
+        | (random[1] & 0xFFL);
+
+    long leastSigBits = 0x8000000000000000L | ((random[2] & 0x3FL) << 56);
+    for (int i = 3; i < 10; i++) {
+      leastSigBits |= (random[i] & 0xFFL) << ((9 - i) * 8);
+    }
+    return new UUID(mostSigBits, leastSigBits);
+  }
+}
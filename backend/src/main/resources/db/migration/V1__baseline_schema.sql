@@ -0,0 +1,83 @@
+-- Baseline: the schema previously generated by spring.jpa.hibernate.ddl-auto=update.
+-- Databases created that way are baselined at this version and skip this script.
+
+CREATE TABLE users (
+    id UUID PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    role VARCHAR(50) NOT NULL DEFAULT 'ATTENDEE',
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE events (
+    id UUID PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    event_start TIMESTAMP(6),
+    event_end TIMESTAMP(6),
+    venue VARCHAR(255) NOT NULL,
+    sales_start TIMESTAMP(6),
+    sales_end TIMESTAMP(6),
+    status VARCHAR(255) NOT NULL,
+    organizer_id UUID REFERENCES users (id),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE ticket_types (
+    id UUID PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    price DOUBLE PRECISION NOT NULL,
+    description VARCHAR(255),
+    total_available INTEGER,
+    event_id UUID REFERENCES events (id),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE tickets (
+    id UUID PRIMARY KEY,
+    status VARCHAR(255) NOT NULL,
+    ticket_type_id UUID REFERENCES ticket_types (id),
+    purchaser_id UUID REFERENCES users (id),
+    quantity INTEGER NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE qr_codes (
+    id UUID PRIMARY KEY,
+    status VARCHAR(255) NOT NULL,
+    value TEXT NOT NULL,
+    ticket_id UUID REFERENCES tickets (id),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE ticket_validations (
+    id UUID PRIMARY KEY,
+    status VARCHAR(255) NOT NULL,
+    validation_method VARCHAR(255) NOT NULL,
+    ticket_id UUID REFERENCES tickets (id),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE user_attending_events (
+    user_id UUID NOT NULL REFERENCES users (id),
+    event_id UUID NOT NULL REFERENCES events (id)
+);
+
+CREATE TABLE user_staffing_events (
+    user_id UUID NOT NULL REFERENCES users (id),
+    event_id UUID NOT NULL REFERENCES events (id)
+);
+
+CREATE TABLE password_reset_tokens (
+    id UUID PRIMARY KEY,
+    token VARCHAR(255) NOT NULL UNIQUE,
+    email VARCHAR(255) NOT NULL,
+    expiry_date TIMESTAMP(6) NOT NULL,
+    used BOOLEAN NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL
+);
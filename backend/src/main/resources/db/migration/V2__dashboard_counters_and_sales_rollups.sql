@@ -0,0 +1,88 @@
+-- Role column for databases created before roles existed (no-op on a fresh baseline)
+ALTER TABLE users ADD COLUMN IF NOT EXISTS role VARCHAR(50) NOT NULL DEFAULT 'ATTENDEE';
+
+-- Pre-aggregated dashboard counters, one row per organizer
+CREATE TABLE IF NOT EXISTS organizer_stats (
+    organizer_id UUID PRIMARY KEY,
+    total_events BIGINT NOT NULL DEFAULT 0,
+    published_events BIGINT NOT NULL DEFAULT 0,
+    draft_events BIGINT NOT NULL DEFAULT 0,
+    total_ticket_types BIGINT NOT NULL DEFAULT 0,
+    total_tickets_available BIGINT NOT NULL DEFAULT 0,
+    total_tickets_sold BIGINT NOT NULL DEFAULT 0,
+    total_revenue DOUBLE PRECISION NOT NULL DEFAULT 0,
+    total_attendances BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+-- Backfill existing organizers (organizers without a row are also backfilled lazily on first read)
+INSERT INTO organizer_stats (organizer_id, total_events, published_events, draft_events,
+    total_ticket_types, total_tickets_available, total_tickets_sold, total_revenue,
+    total_attendances, created_at, updated_at)
+SELECT e.organizer_id,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE e.status = 'PUBLISHED'),
+       COUNT(*) FILTER (WHERE e.status = 'DRAFT'),
+       COALESCE(SUM(tt.ticket_types), 0),
+       COALESCE(SUM(tt.available), 0),
+       COALESCE(SUM(s.sold), 0),
+       COALESCE(SUM(s.revenue), 0),
+       COALESCE(SUM(v.attended), 0),
+       NOW(),
+       NOW()
+FROM events e
+LEFT JOIN (
+    SELECT event_id, COUNT(*) AS ticket_types, SUM(total_available) AS available
+    FROM ticket_types GROUP BY event_id
+) tt ON tt.event_id = e.id
+LEFT JOIN (
+    SELECT tt.event_id, SUM(t.quantity) AS sold, SUM(t.quantity * tt.price) AS revenue
+    FROM tickets t JOIN ticket_types tt ON tt.id = t.ticket_type_id GROUP BY tt.event_id
+) s ON s.event_id = e.id
+LEFT JOIN (
+    SELECT tt.event_id, COUNT(*) AS attended
+    FROM ticket_validations tv
+    JOIN tickets t ON t.id = tv.ticket_id
+    JOIN ticket_types tt ON tt.id = t.ticket_type_id
+    WHERE tv.status = 'VALID'
+    GROUP BY tt.event_id
+) v ON v.event_id = e.id
+WHERE e.organizer_id IS NOT NULL
+GROUP BY e.organizer_id
+ON CONFLICT (organizer_id) DO NOTHING;
+
+-- Per-minute, per-hour and per-day sales and check-in buckets per ticket type
+CREATE TABLE IF NOT EXISTS event_sales_rollups (
+    event_id UUID NOT NULL,
+    ticket_type_id UUID NOT NULL,
+    granularity VARCHAR(16) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    tickets_sold BIGINT NOT NULL DEFAULT 0,
+    revenue DOUBLE PRECISION NOT NULL DEFAULT 0,
+    check_ins BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (event_id, ticket_type_id, granularity, bucket_start)
+);
+
+-- Backfill from existing tickets and validations
+INSERT INTO event_sales_rollups AS r (event_id, ticket_type_id, granularity, bucket_start,
+    tickets_sold, revenue, check_ins)
+SELECT tt.event_id, tt.id, g.granularity, date_trunc(g.unit, t.created_at),
+       SUM(t.quantity), SUM(t.quantity * tt.price), 0
+FROM tickets t
+JOIN ticket_types tt ON tt.id = t.ticket_type_id
+CROSS JOIN (VALUES ('MINUTE', 'minute'), ('HOUR', 'hour'), ('DAY', 'day')) AS g (granularity, unit)
+GROUP BY tt.event_id, tt.id, g.granularity, date_trunc(g.unit, t.created_at)
+ON CONFLICT (event_id, ticket_type_id, granularity, bucket_start) DO NOTHING;
+
+INSERT INTO event_sales_rollups AS r (event_id, ticket_type_id, granularity, bucket_start,
+    tickets_sold, revenue, check_ins)
+SELECT tt.event_id, tt.id, g.granularity, date_trunc(g.unit, tv.created_at), 0, 0, COUNT(*)
+FROM ticket_validations tv
+JOIN tickets t ON t.id = tv.ticket_id
+JOIN ticket_types tt ON tt.id = t.ticket_type_id
+CROSS JOIN (VALUES ('MINUTE', 'minute'), ('HOUR', 'hour'), ('DAY', 'day')) AS g (granularity, unit)
+WHERE tv.status = 'VALID'
+GROUP BY tt.event_id, tt.id, g.granularity, date_trunc(g.unit, tv.created_at)
+ON CONFLICT (event_id, ticket_type_id, granularity, bucket_start)
+    DO UPDATE SET check_ins = r.check_ins + EXCLUDED.check_ins;
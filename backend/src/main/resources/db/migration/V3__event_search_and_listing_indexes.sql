@@ -0,0 +1,35 @@
+-- Stored full-text search vector for events, kept in sync by Postgres on every insert/update.
+-- Adding a stored generated column rewrites the table, which backfills existing rows.
+ALTER TABLE events ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        to_tsvector('english', COALESCE(name, '') || ' ' || COALESCE(venue, ''))
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_events_search_vector ON events USING GIN (search_vector);
+
+-- Trigram indexes backing typo-tolerant prefix suggestions on event name and venue
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_events_name_trgm
+    ON events USING GIN (name gin_trgm_ops) WHERE status = 'PUBLISHED';
+
+CREATE INDEX IF NOT EXISTS idx_events_venue_trgm
+    ON events USING GIN (venue gin_trgm_ops) WHERE status = 'PUBLISHED';
+
+-- Indexes matching the (created_at DESC, id DESC) keyset order of the scroll endpoints
+CREATE INDEX IF NOT EXISTS idx_events_status_created_at_id
+    ON events (status, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_events_organizer_created_at_id
+    ON events (organizer_id, created_at DESC, id DESC);
+
+-- Composite indexes backing the faceted filters on /api/v1/published-events
+CREATE INDEX IF NOT EXISTS idx_events_status_start
+    ON events (status, event_start);
+
+CREATE INDEX IF NOT EXISTS idx_events_status_venue_start
+    ON events (status, venue, event_start);
+
+-- Serves the EXISTS price-band probe per event and the price facet join as index-only scans
+CREATE INDEX IF NOT EXISTS idx_ticket_types_event_price
+    ON ticket_types (event_id, price);
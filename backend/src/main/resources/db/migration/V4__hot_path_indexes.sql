@@ -0,0 +1,34 @@
+-- Indexes for the foreign keys and filters used by repository queries. events.organizer_id and
+-- events.status are already covered by the leading columns of the keyset indexes in V3, and
+-- ticket_types.event_id by idx_ticket_types_event_price.
+
+-- Sold count per ticket type under the purchase lock (TicketRepository.countByTicketTypeId),
+-- availability snapshots and stats: INCLUDE (quantity) makes the SUM an index-only scan
+CREATE INDEX IF NOT EXISTS idx_tickets_ticket_type_id
+    ON tickets (ticket_type_id) INCLUDE (quantity);
+
+-- A user's tickets (TicketRepository.findByPurchaserId)
+CREATE INDEX IF NOT EXISTS idx_tickets_purchaser_id
+    ON tickets (purchaser_id);
+
+-- QR code lookup by ticket (QrCodeRepository.findByTicketIdAndTicketPurchaserId)
+CREATE INDEX IF NOT EXISTS idx_qr_codes_ticket_id
+    ON qr_codes (ticket_id);
+
+-- Check-in counts per ticket (TicketValidationRepository.countValidByEvent, dashboard stats)
+CREATE INDEX IF NOT EXISTS idx_ticket_validations_ticket_id_status
+    ON ticket_validations (ticket_id, status);
+
+-- Login and password reset (UserRepository.findByEmail, PasswordResetTokenRepository.deleteByEmail)
+CREATE INDEX IF NOT EXISTS idx_users_email
+    ON users (email);
+
+CREATE INDEX IF NOT EXISTS idx_password_reset_tokens_email
+    ON password_reset_tokens (email);
+
+-- Deleting an event removes its join-table rows
+CREATE INDEX IF NOT EXISTS idx_user_attending_events_event_id
+    ON user_attending_events (event_id);
+
+CREATE INDEX IF NOT EXISTS idx_user_staffing_events_event_id
+    ON user_staffing_events (event_id);
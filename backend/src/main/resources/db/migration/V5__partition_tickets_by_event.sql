@@ -0,0 +1,184 @@
+-- Range-partitions tickets, qr_codes and ticket_validations by event_id.
+--
+-- Event ids are UUIDv7, so their leading 48 bits are the creation time in milliseconds and a
+-- month of events maps to one contiguous id range. Each table gets one partition per month of
+-- event creation (tickets_2025_01, ...), and per-event queries that filter on event_id touch a
+-- single partition. Events with pre-UUIDv7 random ids, and rows whose event could not be
+-- resolved (stored with the nil UUID), live in the *_legacy default partitions.
+--
+-- The partition key has to be part of every unique constraint, so the primary keys become
+-- (id, event_id) and qr_codes/ticket_validations reference tickets by (ticket_id, event_id).
+
+-- Lowest UUIDv7 that can be generated at the given instant
+CREATE FUNCTION uuidv7_lower_bound(ts TIMESTAMPTZ) RETURNS UUID
+LANGUAGE sql IMMUTABLE AS $$
+    SELECT (lpad(to_hex(floor(extract(EPOCH FROM ts) * 1000)::BIGINT), 12, '0')
+        || '00000000000000000000')::UUID
+$$;
+
+-- Creation time encoded in a UUIDv7
+CREATE FUNCTION uuidv7_timestamp(id UUID) RETURNS TIMESTAMPTZ
+LANGUAGE sql IMMUTABLE AS $$
+    SELECT to_timestamp(('x' || substr(replace(id::TEXT, '-', ''), 1, 12))::BIT(48)::BIGINT
+        / 1000.0)
+$$;
+
+-- Creates the monthly partitions (UTC months) for the given range if they do not exist yet and
+-- returns how many were created. Run ahead of time by the application: once a month's events
+-- have tickets in the default partition, that month's partition can no longer be attached.
+CREATE FUNCTION ensure_event_partitions(from_month DATE, months INTEGER) RETURNS INTEGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    created INTEGER := 0;
+    month_start TIMESTAMP;
+    parent_name TEXT;
+    partition_name TEXT;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_event_partitions'));
+    FOR i IN 0 .. months - 1 LOOP
+        month_start := date_trunc('month', from_month::TIMESTAMP) + make_interval(months => i);
+        FOREACH parent_name IN ARRAY ARRAY['tickets', 'qr_codes', 'ticket_validations'] LOOP
+            partition_name := parent_name || '_' || to_char(month_start, 'YYYY_MM');
+            IF to_regclass(partition_name) IS NULL THEN
+                EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                    partition_name, parent_name,
+                    uuidv7_lower_bound(month_start AT TIME ZONE 'UTC'),
+                    uuidv7_lower_bound((month_start + INTERVAL '1 month') AT TIME ZONE 'UTC'));
+                created := created + 1;
+            END IF;
+        END LOOP;
+    END LOOP;
+    RETURN created;
+END;
+$$;
+
+-- Detaches one month's partitions so they can be moved to archive storage (ALTER TABLE ... SET
+-- TABLESPACE, pg_dump and DROP) without touching the live tables. Refuses while any event in the
+-- range has not ended. Children go first, and their foreign keys to the tickets parent are
+-- dropped, since the referenced tickets leave with them.
+CREATE FUNCTION detach_event_partitions(target_month DATE) RETURNS INTEGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    month_start TIMESTAMP := date_trunc('month', target_month::TIMESTAMP);
+    suffix TEXT := to_char(date_trunc('month', target_month::TIMESTAMP), 'YYYY_MM');
+    detached INTEGER := 0;
+    parent_name TEXT;
+    fk RECORD;
+BEGIN
+    IF EXISTS (SELECT 1 FROM events
+               WHERE id >= uuidv7_lower_bound(month_start AT TIME ZONE 'UTC')
+                 AND id < uuidv7_lower_bound((month_start + INTERVAL '1 month') AT TIME ZONE 'UTC')
+                 AND (event_end IS NULL OR event_end > now())) THEN
+        RAISE EXCEPTION 'Events created in % have not all ended', suffix;
+    END IF;
+
+    FOREACH parent_name IN ARRAY ARRAY['ticket_validations', 'qr_codes', 'tickets'] LOOP
+        IF to_regclass(parent_name || '_' || suffix) IS NOT NULL THEN
+            EXECUTE format('ALTER TABLE %I DETACH PARTITION %I',
+                parent_name, parent_name || '_' || suffix);
+            FOR fk IN SELECT conname FROM pg_constraint
+                      WHERE conrelid = to_regclass(parent_name || '_' || suffix)
+                        AND confrelid = 'tickets'::REGCLASS AND contype = 'f' LOOP
+                EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I',
+                    parent_name || '_' || suffix, fk.conname);
+            END LOOP;
+            detached := detached + 1;
+        END IF;
+    END LOOP;
+    RETURN detached;
+END;
+$$;
+
+ALTER TABLE ticket_validations RENAME TO ticket_validations_unpartitioned;
+ALTER TABLE qr_codes RENAME TO qr_codes_unpartitioned;
+ALTER TABLE tickets RENAME TO tickets_unpartitioned;
+
+CREATE TABLE tickets (
+    id UUID NOT NULL,
+    event_id UUID NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    ticket_type_id UUID REFERENCES ticket_types (id),
+    purchaser_id UUID REFERENCES users (id),
+    quantity INTEGER NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id, event_id)
+) PARTITION BY RANGE (event_id);
+
+CREATE TABLE qr_codes (
+    id UUID NOT NULL,
+    event_id UUID NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    value TEXT NOT NULL,
+    ticket_id UUID,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id, event_id),
+    FOREIGN KEY (ticket_id, event_id) REFERENCES tickets (id, event_id)
+) PARTITION BY RANGE (event_id);
+
+CREATE TABLE ticket_validations (
+    id UUID NOT NULL,
+    event_id UUID NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    validation_method VARCHAR(255) NOT NULL,
+    ticket_id UUID,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id, event_id),
+    FOREIGN KEY (ticket_id, event_id) REFERENCES tickets (id, event_id)
+) PARTITION BY RANGE (event_id);
+
+CREATE TABLE tickets_legacy PARTITION OF tickets DEFAULT;
+CREATE TABLE qr_codes_legacy PARTITION OF qr_codes DEFAULT;
+CREATE TABLE ticket_validations_legacy PARTITION OF ticket_validations DEFAULT;
+
+-- Monthly partitions from the first UUIDv7 event through three months ahead, before any data
+-- lands in the default partitions
+DO $$
+DECLARE
+    first_month DATE;
+    current_month DATE := date_trunc('month', now() AT TIME ZONE 'UTC')::DATE;
+BEGIN
+    SELECT date_trunc('month', min(uuidv7_timestamp(id)) AT TIME ZONE 'UTC')::DATE
+    INTO first_month
+    FROM events
+    WHERE substr(id::TEXT, 15, 1) = '7';
+
+    first_month := LEAST(COALESCE(first_month, current_month), current_month);
+    PERFORM ensure_event_partitions(first_month,
+        ((extract(YEAR FROM age(current_month, first_month)) * 12
+            + extract(MONTH FROM age(current_month, first_month)))::INTEGER) + 4);
+END;
+$$;
+
+INSERT INTO tickets (id, event_id, status, ticket_type_id, purchaser_id, quantity, created_at,
+    updated_at)
+SELECT t.id, COALESCE(tt.event_id, '00000000-0000-0000-0000-000000000000'), t.status,
+    t.ticket_type_id, t.purchaser_id, t.quantity, t.created_at, t.updated_at
+FROM tickets_unpartitioned t
+LEFT JOIN ticket_types tt ON tt.id = t.ticket_type_id;
+
+INSERT INTO qr_codes (id, event_id, status, value, ticket_id, created_at, updated_at)
+SELECT q.id, COALESCE(t.event_id, '00000000-0000-0000-0000-000000000000'), q.status, q.value,
+    q.ticket_id, q.created_at, q.updated_at
+FROM qr_codes_unpartitioned q
+LEFT JOIN tickets t ON t.id = q.ticket_id;
+
+INSERT INTO ticket_validations (id, event_id, status, validation_method, ticket_id, created_at,
+    updated_at)
+SELECT tv.id, COALESCE(t.event_id, '00000000-0000-0000-0000-000000000000'), tv.status,
+    tv.validation_method, tv.ticket_id, tv.created_at, tv.updated_at
+FROM ticket_validations_unpartitioned tv
+LEFT JOIN tickets t ON t.id = tv.ticket_id;
+
+DROP TABLE ticket_validations_unpartitioned;
+DROP TABLE qr_codes_unpartitioned;
+DROP TABLE tickets_unpartitioned;
+
+-- The V4 hot-path indexes, now created on every partition. Within an event's partition the
+-- ticket_type_id index still serves the sold-count sum under the purchase lock.
+CREATE INDEX idx_tickets_ticket_type_id ON tickets (ticket_type_id) INCLUDE (quantity);
+CREATE INDEX idx_tickets_purchaser_id ON tickets (purchaser_id);
+CREATE INDEX idx_qr_codes_ticket_id ON qr_codes (ticket_id);
+CREATE INDEX idx_ticket_validations_ticket_id_status ON ticket_validations (ticket_id, status);
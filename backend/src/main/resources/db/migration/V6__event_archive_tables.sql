@@ -0,0 +1,72 @@
+-- Archive tables for completed events. The archival job moves an event's tickets, QR codes and
+-- validations here in chunks once the event has been over for app.archival.archive-after, so
+-- the live tables only hold upcoming and recently finished events.
+--
+-- Archived rows are compact: no updated_at, and QR codes drop their encoded value (they are
+-- expired by then). Each row records when it was archived.
+
+CREATE TABLE tickets_archive (
+    id UUID PRIMARY KEY,
+    event_id UUID NOT NULL,
+    ticket_type_id UUID,
+    purchaser_id UUID,
+    status VARCHAR(32) NOT NULL,
+    quantity INTEGER NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    archived_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_tickets_archive_event_id ON tickets_archive (event_id);
+CREATE INDEX idx_tickets_archive_purchaser_id ON tickets_archive (purchaser_id);
+
+CREATE TABLE qr_codes_archive (
+    id UUID PRIMARY KEY,
+    event_id UUID NOT NULL,
+    ticket_id UUID,
+    status VARCHAR(32) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    archived_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_qr_codes_archive_event_id ON qr_codes_archive (event_id);
+
+CREATE TABLE ticket_validations_archive (
+    id UUID PRIMARY KEY,
+    event_id UUID NOT NULL,
+    ticket_id UUID,
+    status VARCHAR(32) NOT NULL,
+    validation_method VARCHAR(32) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    archived_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_ticket_validations_archive_event_id ON ticket_validations_archive (event_id);
+
+-- Sales and check-ins of archived tickets per ticket type, updated in the same transaction as
+-- each chunk, so dashboard totals do not change when tickets leave the live tables
+CREATE TABLE ticket_type_archive_totals (
+    ticket_type_id UUID PRIMARY KEY REFERENCES ticket_types (id) ON DELETE CASCADE,
+    event_id UUID NOT NULL,
+    tickets_sold BIGINT NOT NULL DEFAULT 0,
+    check_ins BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE INDEX idx_ticket_type_archive_totals_event_id ON ticket_type_archive_totals (event_id);
+
+-- One row per event being archived. Progress survives restarts: the next run picks up every
+-- event without a completed_at and continues with its remaining tickets.
+CREATE TABLE event_archive_progress (
+    event_id UUID PRIMARY KEY REFERENCES events (id) ON DELETE CASCADE,
+    tickets_archived BIGINT NOT NULL DEFAULT 0,
+    qr_codes_archived BIGINT NOT NULL DEFAULT 0,
+    validations_archived BIGINT NOT NULL DEFAULT 0,
+    started_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    completed_at TIMESTAMP(6)
+);
+
+-- Published events whose end has passed, for the completion step
+CREATE INDEX idx_events_published_end ON events (event_end) WHERE status = 'PUBLISHED';
+
+-- Completed events ordered by end, for picking the next events to archive
+CREATE INDEX idx_events_completed_end ON events (event_end) WHERE status = 'COMPLETED';
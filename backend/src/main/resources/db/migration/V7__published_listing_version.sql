@@ -0,0 +1,11 @@
+-- Version of the published-event listing, the source of the ETag on listing, search, scroll,
+-- facet and suggestion responses. Bumped in the same transaction as every event create, update,
+-- delete or completion, so every instance derives the same ETag from it without aggregating over
+-- events and ticket types on each request.
+CREATE TABLE published_listing_version (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL
+);
+
+INSERT INTO published_listing_version (id, version, updated_at) VALUES (1, 1, now());
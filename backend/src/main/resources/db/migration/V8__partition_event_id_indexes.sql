@@ -0,0 +1,7 @@
+-- Per-event indexes on the partitioned tables. A partition holds a month of events, so without
+-- these the per-event sold, revenue and check-in totals (dashboard stats, organizer counters) and
+-- the QR expiry on event completion scan the whole month partition.
+CREATE INDEX idx_tickets_event_id_ticket_type_id ON tickets (event_id, ticket_type_id)
+    INCLUDE (quantity);
+CREATE INDEX idx_ticket_validations_event_id_status ON ticket_validations (event_id, status);
+CREATE INDEX idx_qr_codes_event_id ON qr_codes (event_id);
@@ -0,0 +1,14 @@
+-- Version of each event's published details, the source of the details ETag and Last-Modified.
+-- Bumped in the same transaction as every purchase and every change to the event or its ticket
+-- types, so a conditional GET reads this one row instead of summing the event's tickets.
+CREATE TABLE published_event_versions (
+    event_id UUID PRIMARY KEY REFERENCES events (id) ON DELETE CASCADE,
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL
+);
+
+INSERT INTO published_event_versions (event_id, version, updated_at)
+SELECT e.id, 1, GREATEST(e.updated_at, MAX(tt.updated_at))
+FROM events e
+LEFT JOIN ticket_types tt ON tt.event_id = e.id
+GROUP BY e.id, e.updated_at;
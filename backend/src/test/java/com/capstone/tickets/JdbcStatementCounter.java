@@ -0,0 +1,104 @@
+package com.capstone.tickets;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Records every statement execution that reaches the driver, so tests can assert round trips
+ * rather than Hibernate's own view of them. A JDBC batch counts once, however many rows it
+ * carries.
+ */
+public class JdbcStatementCounter implements BeanPostProcessor {
+
+  private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery",
+      "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+  private final List<String> executions = new CopyOnWriteArrayList<>();
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)) {
+      return new CountingDataSource(dataSource);
+    }
+    return bean;
+  }
+
+  public void reset() {
+    executions.clear();
+  }
+
+  /**
+   * SQL of each execution since the last reset, lower-cased.
+   */
+  public List<String> executions() {
+    return List.copyOf(executions);
+  }
+
+  public long executionsStartingWith(String sqlPrefix) {
+    String prefix = sqlPrefix.toLowerCase(Locale.ROOT);
+    return executions.stream().filter(sql -> sql.startsWith(prefix)).count();
+  }
+
+  private final class CountingDataSource extends DelegatingDataSource {
+
+    private CountingDataSource(DataSource target) {
+      super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      return counting(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+      return counting(super.getConnection(username, password));
+    }
+  }
+
+  private Connection counting(Connection connection) {
+    return proxy(Connection.class, connection, (method, result, args) ->
+        result instanceof PreparedStatement statement && method.getName().startsWith("prepare")
+            ? counting(statement, (String) args[0])
+            : result);
+  }
+
+  private PreparedStatement counting(PreparedStatement statement, String sql) {
+    String normalized = sql.strip().toLowerCase(Locale.ROOT);
+    return proxy(PreparedStatement.class, statement, (method, result, args) -> {
+      if (EXECUTE_METHODS.contains(method.getName())) {
+        executions.add(normalized);
+      }
+      return result;
+    });
+  }
+
+  @FunctionalInterface
+  private interface ResultHandler {
+
+    Object handle(Method method, Object result, Object[] args);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T proxy(Class<T> type, T target, ResultHandler resultHandler) {
+    return (T) Proxy.newProxyInstance(JdbcStatementCounter.class.getClassLoader(),
+        new Class<?>[] {type}, (proxy, method, args) -> {
+          try {
+            return resultHandler.handle(method, method.invoke(target, args), args);
+          } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+          }
+        });
+  }
+}
@@ -0,0 +1,22 @@
+package com.capstone.tickets;
+
+import com.capstone.tickets.config.JpaConfiguration;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * JPA slice against a migrated Postgres container, with auditing so created_at/updated_at are
+ * filled in. Each test runs in a transaction that is rolled back.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestcontainersConfiguration.class, JpaConfiguration.class, TestFixtures.class})
+public @interface PostgresRepositoryTest {
+}
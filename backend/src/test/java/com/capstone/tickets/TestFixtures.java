@@ -0,0 +1,111 @@
+package com.capstone.tickets;
+
+import com.capstone.tickets.domain.entities.Event;
+import com.capstone.tickets.domain.entities.EventStatusEnum;
+import com.capstone.tickets.domain.entities.QrCode;
+import com.capstone.tickets.domain.entities.QrCodeStatusEnum;
+import com.capstone.tickets.domain.entities.Ticket;
+import com.capstone.tickets.domain.entities.TicketStatusEnum;
+import com.capstone.tickets.domain.entities.TicketType;
+import com.capstone.tickets.domain.entities.TicketValidation;
+import com.capstone.tickets.domain.entities.TicketValidationMethod;
+import com.capstone.tickets.domain.entities.TicketValidationStatusEnum;
+import com.capstone.tickets.domain.entities.User;
+import com.capstone.tickets.domain.enums.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Persists test data through the entity manager of the running test.
+ */
+public class TestFixtures {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  public User user(Role role) {
+    User user = new User();
+    user.setId(UUID.randomUUID());
+    user.setName(role.name().toLowerCase() + "-" + user.getId());
+    user.setEmail(user.getId() + "@example.com");
+    user.setRole(role);
+    entityManager.persist(user);
+    return user;
+  }
+
+  public Event event(User organizer, EventStatusEnum status, String name, String venue,
+      LocalDateTime start) {
+    Event event = new Event();
+    event.setName(name);
+    event.setVenue(venue);
+    event.setStart(start);
+    event.setEnd(start.plusHours(3));
+    event.setStatus(status);
+    event.setOrganizer(organizer);
+    entityManager.persist(event);
+    return event;
+  }
+
+  public Event event(User organizer, EventStatusEnum status) {
+    return event(organizer, status, "Event", "Venue", LocalDateTime.now().plusDays(30));
+  }
+
+  public TicketType ticketType(Event event, double price, Integer totalAvailable) {
+    TicketType ticketType = new TicketType();
+    ticketType.setName("Ticket type");
+    ticketType.setPrice(price);
+    ticketType.setTotalAvailable(totalAvailable);
+    ticketType.setEvent(event);
+    event.getTicketTypes().add(ticketType);
+    entityManager.persist(ticketType);
+    return ticketType;
+  }
+
+  public Ticket ticket(TicketType ticketType, User purchaser, int quantity) {
+    Ticket ticket = new Ticket();
+    ticket.setStatus(TicketStatusEnum.PURCHASED);
+    ticket.setTicketType(ticketType);
+    ticket.setPurchaser(purchaser);
+    ticket.setQuantity(quantity);
+    entityManager.persist(ticket);
+    return ticket;
+  }
+
+  public QrCode qrCode(Ticket ticket) {
+    QrCode qrCode = QrCode.builder()
+        .id(UUID.randomUUID())
+        .status(QrCodeStatusEnum.ACTIVE)
+        .value("qr")
+        .ticket(ticket)
+        .build();
+    entityManager.persist(qrCode);
+    return qrCode;
+  }
+
+  public TicketValidation validation(Ticket ticket, TicketValidationStatusEnum status) {
+    TicketValidation validation = new TicketValidation();
+    validation.setStatus(status);
+    validation.setValidationMethod(TicketValidationMethod.QR_SCAN);
+    validation.setTicket(ticket);
+    entityManager.persist(validation);
+    return validation;
+  }
+
+  /**
+   * Writes pending changes, detaches everything and resets the statement counters, so a test
+   * only counts the statements of the code under test.
+   */
+  public Statistics flushAndResetStatistics() {
+    entityManager.flush();
+    entityManager.clear();
+    Statistics statistics = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.clear();
+    return statistics;
+  }
+}
@@ -0,0 +1,143 @@
+package com.capstone.tickets.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReadReplicaRoutingDataSourceTest {
+
+  private static final Duration MAX_LAG = Duration.ofSeconds(5);
+  private static final Duration CHECK_INTERVAL = Duration.ofMinutes(1);
+
+  private EmbeddedDatabase primary;
+  private EmbeddedDatabase replica;
+
+  @BeforeEach
+  void startDatabases() {
+    primary = markedDatabase("primary");
+    replica = markedDatabase("replica");
+  }
+
+  @AfterEach
+  void stopDatabases() {
+    primary.shutdown();
+    replica.shutdown();
+  }
+
+  @Test
+  void readOnlyWorkStaysOnThePrimaryUntilTheReplicaPassesALagCheck() {
+    ReadReplicaRoutingDataSource routing = routing("SELECT 0");
+
+    assertThat(databaseSeenBy(routing, true)).isEqualTo("primary");
+  }
+
+  @Test
+  void readOnlyWorkGoesToAHealthyReplica() {
+    ReadReplicaRoutingDataSource routing = routing("SELECT 0");
+    routing.checkReplicaLag();
+
+    assertThat(databaseSeenBy(routing, true)).isEqualTo("replica");
+  }
+
+  @Test
+  void readWriteWorkAlwaysGoesToThePrimary() {
+    ReadReplicaRoutingDataSource routing = routing("SELECT 0");
+    routing.checkReplicaLag();
+
+    assertThat(databaseSeenBy(routing, false)).isEqualTo("primary");
+  }
+
+  @Test
+  void aLaggingReplicaSendsReadOnlyWorkBackToThePrimary() {
+    ReadReplicaRoutingDataSource routing = routing("SELECT 60");
+    routing.checkReplicaLag();
+
+    assertThat(databaseSeenBy(routing, true)).isEqualTo("primary");
+  }
+
+  @Test
+  void aFailingLagCheckSendsReadOnlyWorkBackToThePrimary() {
+    ReadReplicaRoutingDataSource routing = routing("SELECT 0");
+    routing.checkReplicaLag();
+    replica.shutdown();
+    routing.checkReplicaLag();
+    replica = markedDatabase("replica");
+
+    assertThat(databaseSeenBy(routing, true)).isEqualTo("primary");
+  }
+
+  @Test
+  void aReplicaWhoseLastCheckIsStaleSendsReadOnlyWorkBackToThePrimary() throws Exception {
+    ReadReplicaRoutingDataSource routing = routing("SELECT 0", Duration.ofMillis(10));
+    routing.checkReplicaLag();
+    Thread.sleep(100);
+
+    assertThat(routing.hasHealthyReplica()).isFalse();
+    assertThat(databaseSeenBy(routing, true)).isEqualTo("primary");
+  }
+
+  @Test
+  void startedRoutingChecksLagOnItsOwn() throws Exception {
+    ReadReplicaRoutingDataSource routing = routing("SELECT 0", Duration.ofMillis(50));
+    routing.start();
+    try {
+      long deadline = System.currentTimeMillis() + 5_000;
+      while (!routing.hasHealthyReplica() && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+      // Longer than the 150ms after which a check counts as stale
+      Thread.sleep(300);
+
+      assertThat(databaseSeenBy(routing, true)).isEqualTo("replica");
+    } finally {
+      routing.stop();
+    }
+  }
+
+  private ReadReplicaRoutingDataSource routing(String lagQuery) {
+    return routing(lagQuery, CHECK_INTERVAL);
+  }
+
+  private ReadReplicaRoutingDataSource routing(String lagQuery, Duration checkInterval) {
+    ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(primary,
+        Map.of("replica-0", replica), MAX_LAG, lagQuery, checkInterval, new SimpleMeterRegistry());
+    routing.afterPropertiesSet();
+    return routing;
+  }
+
+  // Mirrors the production wiring: the lazy proxy defers the connection until the read-only flag
+  // is bound, and the routing data source then picks the target
+  private static String databaseSeenBy(DataSource routing, boolean readOnly) {
+    DataSource lazy = new LazyConnectionDataSourceProxy(routing);
+    TransactionTemplate transactions =
+        new TransactionTemplate(new DataSourceTransactionManager(lazy));
+    transactions.setReadOnly(readOnly);
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(lazy);
+    return transactions.execute(
+        status -> jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+  }
+
+  private static EmbeddedDatabase markedDatabase(String name) {
+    EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+        .setType(EmbeddedDatabaseType.H2)
+        .generateUniqueName(true)
+        .build();
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+    jdbcTemplate.execute("CREATE TABLE marker (name VARCHAR(16))");
+    jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", name);
+    return database;
+  }
+}
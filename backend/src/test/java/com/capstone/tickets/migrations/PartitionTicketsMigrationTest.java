@@ -0,0 +1,167 @@
+package com.capstone.tickets.migrations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Seeds the pre-partitioning schema (V4), runs V5 and later, and checks that every ticket, QR
+ * code and validation was copied into the right partition before the old tables were dropped.
+ */
+@Testcontainers
+class PartitionTicketsMigrationTest {
+
+  private static final UUID NIL = new UUID(0, 0);
+
+  @Container
+  private static final PostgreSQLContainer<?> POSTGRES =
+      new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"));
+
+  private static final UUID ORGANIZER = UUID.randomUUID();
+  private static final UUID ATTENDEE = UUID.randomUUID();
+  // Created in March 2025 with a UUIDv7 id, so its rows belong in the 2025_03 partitions
+  private static final UUID V7_EVENT = uuidV7(Instant.parse("2025-03-10T12:00:00Z"));
+  // Pre-UUIDv7 random id, so its rows belong in the legacy partitions
+  private static final UUID V4_EVENT = UUID.fromString("f47ac10b-58cc-4372-a567-0e02b2c3d479");
+  private static final UUID V7_TICKET_TYPE = UUID.randomUUID();
+  private static final UUID V4_TICKET_TYPE = UUID.randomUUID();
+  private static final UUID V7_TICKET = UUID.randomUUID();
+  private static final UUID V4_TICKET = UUID.randomUUID();
+  // No ticket type, so its event cannot be resolved
+  private static final UUID ORPHAN_TICKET = UUID.randomUUID();
+  private static final UUID V7_QR_CODE = UUID.randomUUID();
+  private static final UUID ORPHAN_QR_CODE = UUID.randomUUID();
+  private static final UUID V7_VALIDATION = UUID.randomUUID();
+  private static final UUID V4_VALIDATION = UUID.randomUUID();
+
+  private static JdbcTemplate jdbcTemplate;
+
+  @BeforeAll
+  static void migrateSeededDatabase() {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    jdbcTemplate = new JdbcTemplate(dataSource);
+
+    Flyway.configure().dataSource(dataSource).target("4").load().migrate();
+    seed();
+    Flyway.configure().dataSource(dataSource).load().migrate();
+  }
+
+  @Test
+  void ticketsMoveToTheirEventsPartition() {
+    assertThat(row("tickets", V7_TICKET))
+        .containsEntry("partition", "tickets_2025_03")
+        .containsEntry("event_id", V7_EVENT)
+        .containsEntry("quantity", 2);
+    assertThat(row("tickets", V4_TICKET))
+        .containsEntry("partition", "tickets_legacy")
+        .containsEntry("event_id", V4_EVENT);
+  }
+
+  @Test
+  void ticketsWithoutATicketTypeGetTheNilEventInTheLegacyPartition() {
+    assertThat(row("tickets", ORPHAN_TICKET))
+        .containsEntry("partition", "tickets_legacy")
+        .containsEntry("event_id", NIL);
+  }
+
+  @Test
+  void qrCodesAndValidationsFollowTheirTickets() {
+    assertThat(row("qr_codes", V7_QR_CODE))
+        .containsEntry("partition", "qr_codes_2025_03")
+        .containsEntry("event_id", V7_EVENT)
+        .containsEntry("ticket_id", V7_TICKET);
+    assertThat(row("qr_codes", ORPHAN_QR_CODE))
+        .containsEntry("partition", "qr_codes_legacy")
+        .containsEntry("event_id", NIL);
+    assertThat(row("ticket_validations", V7_VALIDATION))
+        .containsEntry("partition", "ticket_validations_2025_03")
+        .containsEntry("event_id", V7_EVENT)
+        .containsEntry("status", "VALID");
+    assertThat(row("ticket_validations", V4_VALIDATION))
+        .containsEntry("partition", "ticket_validations_legacy")
+        .containsEntry("event_id", V4_EVENT);
+  }
+
+  @Test
+  void noRowsAreLostAndTheOldTablesAreDropped() {
+    assertThat(count("tickets")).isEqualTo(3);
+    assertThat(count("qr_codes")).isEqualTo(2);
+    assertThat(count("ticket_validations")).isEqualTo(2);
+    for (String table : List.of(
+        "tickets_unpartitioned", "qr_codes_unpartitioned", "ticket_validations_unpartitioned")) {
+      assertThat(jdbcTemplate.queryForObject("SELECT to_regclass(?)::TEXT", String.class, table))
+          .isNull();
+    }
+  }
+
+  @Test
+  void perEventIndexesExistOnEveryPartition() {
+    List<String> indexes = jdbcTemplate.queryForList(
+        "SELECT indexdef FROM pg_indexes WHERE tablename IN ('tickets_2025_03', 'tickets_legacy')",
+        String.class);
+    assertThat(indexes)
+        .filteredOn(definition -> definition.contains("(event_id, ticket_type_id)"))
+        .hasSize(2);
+    assertThat(jdbcTemplate.queryForList(
+        "SELECT indexdef FROM pg_indexes WHERE tablename = 'ticket_validations_2025_03'",
+        String.class))
+        .anyMatch(definition -> definition.contains("(event_id, status)"));
+  }
+
+  private static Map<String, Object> row(String table, UUID id) {
+    return jdbcTemplate.queryForMap(
+        "SELECT tableoid::regclass::TEXT AS partition, * FROM " + table + " WHERE id = ?", id);
+  }
+
+  private static long count(String table) {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+  }
+
+  private static void seed() {
+    LocalDateTime now = LocalDateTime.now();
+    jdbcTemplate.update("INSERT INTO users (id, name, email, role, created_at, updated_at) "
+        + "VALUES (?, 'organizer', 'organizer@example.com', 'ORGANIZER', ?, ?), "
+        + "(?, 'attendee', 'attendee@example.com', 'ATTENDEE', ?, ?)",
+        ORGANIZER, now, now, ATTENDEE, now, now);
+    for (UUID eventId : List.of(V7_EVENT, V4_EVENT)) {
+      jdbcTemplate.update("INSERT INTO events (id, name, venue, status, organizer_id, created_at, "
+          + "updated_at) VALUES (?, 'Event', 'Venue', 'PUBLISHED', ?, ?, ?)",
+          eventId, ORGANIZER, now, now);
+    }
+    jdbcTemplate.update("INSERT INTO ticket_types (id, name, price, total_available, event_id, "
+        + "created_at, updated_at) VALUES (?, 'General', 10, 100, ?, ?, ?), "
+        + "(?, 'General', 20, 100, ?, ?, ?)",
+        V7_TICKET_TYPE, V7_EVENT, now, now, V4_TICKET_TYPE, V4_EVENT, now, now);
+    jdbcTemplate.update("INSERT INTO tickets (id, status, ticket_type_id, purchaser_id, quantity, "
+        + "created_at, updated_at) VALUES (?, 'PURCHASED', ?, ?, 2, ?, ?), "
+        + "(?, 'PURCHASED', ?, ?, 1, ?, ?), (?, 'PURCHASED', NULL, ?, 1, ?, ?)",
+        V7_TICKET, V7_TICKET_TYPE, ATTENDEE, now, now,
+        V4_TICKET, V4_TICKET_TYPE, ATTENDEE, now, now,
+        ORPHAN_TICKET, ATTENDEE, now, now);
+    jdbcTemplate.update("INSERT INTO qr_codes (id, status, value, ticket_id, created_at, "
+        + "updated_at) VALUES (?, 'ACTIVE', 'qr', ?, ?, ?), (?, 'ACTIVE', 'qr', ?, ?, ?)",
+        V7_QR_CODE, V7_TICKET, now, now, ORPHAN_QR_CODE, ORPHAN_TICKET, now, now);
+    jdbcTemplate.update("INSERT INTO ticket_validations (id, status, validation_method, ticket_id, "
+        + "created_at, updated_at) VALUES (?, 'VALID', 'QR_SCAN', ?, ?, ?), "
+        + "(?, 'VALID', 'MANUAL', ?, ?, ?)",
+        V7_VALIDATION, V7_TICKET, now, now, V4_VALIDATION, V4_TICKET, now, now);
+  }
+
+  private static UUID uuidV7(Instant createdAt) {
+    return new UUID((createdAt.toEpochMilli() << 16) | 0x7000L, 0x8000000000000001L);
+  }
+}
@@ -0,0 +1,109 @@
+package com.capstone.tickets.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.capstone.tickets.JdbcStatementCounter;
+import com.capstone.tickets.PostgresRepositoryTest;
+import com.capstone.tickets.TestFixtures;
+import com.capstone.tickets.domain.entities.Event;
+import com.capstone.tickets.domain.entities.EventStatusEnum;
+import com.capstone.tickets.domain.entities.QrCode;
+import com.capstone.tickets.domain.entities.QrCodeStatusEnum;
+import com.capstone.tickets.domain.entities.Ticket;
+import com.capstone.tickets.domain.entities.TicketType;
+import com.capstone.tickets.domain.entities.User;
+import com.capstone.tickets.domain.enums.Role;
+import com.capstone.tickets.util.UuidV7;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Checks the round trips behind hibernate.jdbc.batch_size=50 with ordered inserts.
+ */
+@PostgresRepositoryTest
+@Import(JdbcStatementCounter.class)
+class BatchInsertTest {
+
+  private static final int BATCH_SIZE = 50;
+  private static final int TICKET_TYPES = 120;
+
+  @Autowired
+  private EventRepository eventRepository;
+
+  @Autowired
+  private QrCodeRepository qrCodeRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private TestFixtures fixtures;
+
+  @Autowired
+  private JdbcStatementCounter statementCounter;
+
+  private User organizer;
+
+  @BeforeEach
+  void seed() {
+    organizer = fixtures.user(Role.ORGANIZER);
+  }
+
+  @Test
+  void ticketTypesOfANewEventAreInsertedInBatches() {
+    fixtures.flushAndResetStatistics();
+    statementCounter.reset();
+
+    Event event = new Event();
+    event.setName("Festival");
+    event.setVenue("Park");
+    event.setStart(LocalDateTime.now().plusDays(60));
+    event.setEnd(LocalDateTime.now().plusDays(62));
+    event.setStatus(EventStatusEnum.DRAFT);
+    event.setOrganizer(organizer);
+    List<TicketType> ticketTypes = new ArrayList<>();
+    for (int i = 0; i < TICKET_TYPES; i++) {
+      TicketType ticketType = new TicketType();
+      ticketType.setName("Tier " + i);
+      ticketType.setPrice(10.0 + i);
+      ticketType.setTotalAvailable(100);
+      ticketType.setEvent(event);
+      ticketTypes.add(ticketType);
+    }
+    event.setTicketTypes(ticketTypes);
+
+    eventRepository.saveAndFlush(event);
+
+    long expectedBatches = (TICKET_TYPES + BATCH_SIZE - 1) / BATCH_SIZE;
+    assertThat(statementCounter.executionsStartingWith("insert into ticket_types"))
+        .isEqualTo(expectedBatches);
+    assertThat(statementCounter.executionsStartingWith("insert into events")).isEqualTo(1);
+    assertThat(statementCounter.executions()).hasSize((int) expectedBatches + 1);
+  }
+
+  @Test
+  void qrCodeWithAssignedIdIsInsertedWithoutASelect() {
+    Event event = fixtures.event(organizer, EventStatusEnum.PUBLISHED);
+    Ticket ticket = fixtures.ticket(fixtures.ticketType(event, 20.0, 100), organizer, 1);
+    fixtures.flushAndResetStatistics();
+    statementCounter.reset();
+
+    QrCode qrCode = new QrCode();
+    qrCode.setId(UuidV7.generate());
+    qrCode.setStatus(QrCodeStatusEnum.ACTIVE);
+    qrCode.setValue("qr");
+    qrCode.setTicket(ticket);
+    qrCodeRepository.save(qrCode);
+    entityManager.flush();
+
+    List<String> executions = statementCounter.executions();
+    assertThat(executions).hasSize(1);
+    assertThat(executions.get(0)).startsWith("insert into qr_codes");
+  }
+}
@@ -0,0 +1,210 @@
+package com.capstone.tickets.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.capstone.tickets.PostgresRepositoryTest;
+import com.capstone.tickets.TestFixtures;
+import com.capstone.tickets.domain.ArchivedChunk;
+import com.capstone.tickets.domain.entities.Event;
+import com.capstone.tickets.domain.entities.EventStatusEnum;
+import com.capstone.tickets.domain.entities.Ticket;
+import com.capstone.tickets.domain.entities.TicketType;
+import com.capstone.tickets.domain.entities.TicketValidationStatusEnum;
+import com.capstone.tickets.domain.entities.User;
+import com.capstone.tickets.domain.enums.Role;
+import com.capstone.tickets.services.impl.EventArchivalServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves tickets of completed events into the archive tables and checks that totals, progress and
+ * resumption line up with what is left in the live tables.
+ */
+@PostgresRepositoryTest
+class EventArchiveRepositoryTest {
+
+  private static final LocalDateTime ENDED_BEFORE = LocalDateTime.now().minusDays(30);
+
+  @Autowired
+  private EventRepository eventRepository;
+
+  @Autowired
+  private TicketRepository ticketRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private TestFixtures fixtures;
+
+  @Test
+  void aChunkMovesTicketsWithTheirQrCodesAndValidations() {
+    Event event = completedEvent();
+    TicketType ticketType = event.getTicketTypes().get(0);
+    fixtures.flushAndResetStatistics();
+
+    ArchivedChunk chunk = eventRepository.archiveTicketChunk(event.getId(), 2,
+        LocalDateTime.now());
+
+    assertThat(chunk).isEqualTo(new ArchivedChunk(2, 2, 2));
+    assertThat(count("tickets", event)).isEqualTo(1);
+    assertThat(count("tickets_archive", event)).isEqualTo(2);
+    assertThat(count("qr_codes_archive", event)).isEqualTo(2);
+    assertThat(count("ticket_validations_archive", event)).isEqualTo(2);
+    assertThat(ticketsArchived(event)).isEqualTo(2);
+    assertThat(isArchived(event)).isFalse();
+    // Sales stay countable once the tickets have left the live table
+    assertThat(ticketRepository.countByTicketTypeId(event.getId(), ticketType.getId()))
+        .isEqualTo(6);
+  }
+
+  @Test
+  void anEventIsOnlyMarkedArchivedOnceNoLiveTicketsRemain() {
+    Event event = completedEvent();
+    fixtures.flushAndResetStatistics();
+
+    eventRepository.archiveTicketChunk(event.getId(), 2, LocalDateTime.now());
+    assertThat(eventRepository.markArchived(event.getId(), LocalDateTime.now())).isFalse();
+    assertThat(eventRepository.findEventIdsPendingArchival(ENDED_BEFORE, 10))
+        .contains(event.getId());
+
+    eventRepository.archiveTicketChunk(event.getId(), 2, LocalDateTime.now());
+    assertThat(eventRepository.archiveTicketChunk(event.getId(), 2, LocalDateTime.now()))
+        .isEqualTo(ArchivedChunk.EMPTY);
+    assertThat(eventRepository.markArchived(event.getId(), LocalDateTime.now())).isTrue();
+
+    assertThat(ticketsArchived(event)).isEqualTo(3);
+    assertThat(isArchived(event)).isTrue();
+    assertThat(eventRepository.findEventIdsPendingArchival(ENDED_BEFORE, 10))
+        .doesNotContain(event.getId());
+  }
+
+  @Test
+  void aRunCutShortResumesWithTheRemainingTickets() {
+    Event event = completedEvent();
+    fixtures.flushAndResetStatistics();
+    EventArchivalServiceImpl archival = archivalService(2, 1);
+
+    // One chunk per run: two runs move the three tickets, the third finds none and finishes
+    assertThat(archival.archiveCompletedEvents()).isZero();
+    assertThat(ticketsArchived(event)).isEqualTo(2);
+    assertThat(archival.archiveCompletedEvents()).isZero();
+    assertThat(ticketsArchived(event)).isEqualTo(3);
+    assertThat(archival.archiveCompletedEvents()).isEqualTo(1);
+
+    assertThat(count("tickets", event)).isZero();
+    assertThat(count("tickets_archive", event)).isEqualTo(3);
+    assertThat(isArchived(event)).isTrue();
+  }
+
+  // Needs committed rows and a second connection, so it runs outside the test transaction and
+  // cleans up after itself
+  @Test
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  void aChunkSkipsTicketsLockedByAnotherRun() throws Exception {
+    TransactionTemplate transactions = new TransactionTemplate(transactionManager);
+    Event event = transactions.execute(status -> completedEvent());
+    List<UUID> userIds = List.of(event.getOrganizer().getId(),
+        jdbcTemplate.queryForObject("SELECT DISTINCT purchaser_id FROM tickets WHERE event_id = ?",
+            UUID.class, event.getId()));
+    List<UUID> ticketIds = jdbcTemplate.queryForList(
+        "SELECT id FROM tickets WHERE event_id = ? ORDER BY id", UUID.class, event.getId());
+
+    try (Connection otherRun = dataSource.getConnection()) {
+      otherRun.setAutoCommit(false);
+      try (PreparedStatement lock = otherRun.prepareStatement(
+          "SELECT id FROM tickets WHERE id = ? FOR UPDATE")) {
+        lock.setObject(1, ticketIds.get(0));
+        lock.executeQuery().close();
+      }
+
+      ArchivedChunk chunk = transactions.execute(status ->
+          eventRepository.archiveTicketChunk(event.getId(), 10, LocalDateTime.now()));
+
+      assertThat(chunk.tickets()).isEqualTo(2);
+      assertThat(jdbcTemplate.queryForList(
+          "SELECT id FROM tickets WHERE event_id = ?", UUID.class, event.getId()))
+          .containsExactly(ticketIds.get(0));
+      otherRun.rollback();
+
+      transactions.execute(status ->
+          eventRepository.archiveTicketChunk(event.getId(), 10, LocalDateTime.now()));
+      assertThat(count("tickets", event)).isZero();
+      assertThat(count("tickets_archive", event)).isEqualTo(3);
+      assertThat(ticketsArchived(event)).isEqualTo(3);
+    } finally {
+      delete(event, userIds);
+    }
+  }
+
+  // Three tickets of quantity 1, 2 and 3, each with a QR code and a check-in
+  private Event completedEvent() {
+    User organizer = fixtures.user(Role.ORGANIZER);
+    User attendee = fixtures.user(Role.ATTENDEE);
+    Event event = fixtures.event(organizer, EventStatusEnum.COMPLETED, "Event", "Venue",
+        LocalDateTime.now().minusDays(40));
+    TicketType ticketType = fixtures.ticketType(event, 10, 100);
+    for (int quantity = 1; quantity <= 3; quantity++) {
+      Ticket ticket = fixtures.ticket(ticketType, attendee, quantity);
+      fixtures.qrCode(ticket);
+      fixtures.validation(ticket, TicketValidationStatusEnum.VALID);
+    }
+    return event;
+  }
+
+  private EventArchivalServiceImpl archivalService(int chunkSize, int maxChunksPerRun) {
+    EventArchivalServiceImpl archival =
+        new EventArchivalServiceImpl(null, eventRepository, new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(archival, "archiveAfter", Duration.ofDays(30));
+    ReflectionTestUtils.setField(archival, "chunkSize", chunkSize);
+    ReflectionTestUtils.setField(archival, "maxEventsPerRun", 10);
+    ReflectionTestUtils.setField(archival, "maxChunksPerRun", maxChunksPerRun);
+    return archival;
+  }
+
+  private long count(String table, Event event) {
+    return jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM " + table + " WHERE event_id = ?", Long.class, event.getId());
+  }
+
+  private long ticketsArchived(Event event) {
+    return jdbcTemplate.queryForObject(
+        "SELECT tickets_archived FROM event_archive_progress WHERE event_id = ?", Long.class,
+        event.getId());
+  }
+
+  private boolean isArchived(Event event) {
+    return jdbcTemplate.queryForObject(
+        "SELECT completed_at IS NOT NULL FROM event_archive_progress WHERE event_id = ?",
+        Boolean.class, event.getId());
+  }
+
+  private void delete(Event event, List<UUID> userIds) {
+    for (String table : List.of("ticket_validations_archive", "qr_codes_archive",
+        "tickets_archive", "ticket_validations", "qr_codes", "tickets", "ticket_types")) {
+      jdbcTemplate.update("DELETE FROM " + table + " WHERE event_id = ?", event.getId());
+    }
+    jdbcTemplate.update("DELETE FROM events WHERE id = ?", event.getId());
+    userIds.forEach(userId -> jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId));
+  }
+}
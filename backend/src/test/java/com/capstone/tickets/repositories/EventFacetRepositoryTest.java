@@ -0,0 +1,85 @@
+package com.capstone.tickets.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.capstone.tickets.PostgresRepositoryTest;
+import com.capstone.tickets.TestFixtures;
+import com.capstone.tickets.domain.PublishedEventFacets;
+import com.capstone.tickets.domain.PublishedEventFacets.PriceBandCount;
+import com.capstone.tickets.domain.PublishedEventFacets.VenueCount;
+import com.capstone.tickets.domain.PublishedEventFilter;
+import com.capstone.tickets.domain.entities.Event;
+import com.capstone.tickets.domain.entities.EventStatusEnum;
+import com.capstone.tickets.domain.entities.User;
+import com.capstone.tickets.domain.enums.Role;
+import java.time.LocalDateTime;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+
+@PostgresRepositoryTest
+class EventFacetRepositoryTest {
+
+  @Autowired
+  private EventRepository eventRepository;
+
+  @Autowired
+  private TestFixtures fixtures;
+
+  @BeforeEach
+  void seed() {
+    User organizer = fixtures.user(Role.ORGANIZER);
+    LocalDateTime start = LocalDateTime.now().plusDays(10);
+    publishedEvent(organizer, "Arena", start, 25.0);
+    publishedEvent(organizer, "Arena", start, 49.99);
+    publishedEvent(organizer, "Hall", start, 50.0);
+    publishedEvent(organizer, "Club", start, 10.0);
+    fixtures.flushAndResetStatistics();
+  }
+
+  @Test
+  void priceBandBoundsSelectExactlyTheEventsTheBandCounted() {
+    PublishedEventFacets facets = eventRepository.findFacets(filter(null, null, null));
+
+    for (PriceBandCount band : facets.priceBands()) {
+      long listed = eventRepository.findAll(EventSpecifications.publishedMatching(
+          filter(null, band.minPrice(), band.maxPrice())), Pageable.unpaged()).getTotalElements();
+      assertThat(listed).as("band from %s", band.minPrice()).isEqualTo(band.count());
+    }
+  }
+
+  @Test
+  void venueFacetIgnoresTheSelectedVenue() {
+    PublishedEventFacets facets = eventRepository.findFacets(filter("Arena", null, null));
+
+    assertThat(facets.venues()).extracting(VenueCount::venue, VenueCount::count)
+        .contains(
+            Tuple.tuple("Arena", 2L),
+            Tuple.tuple("Hall", 1L),
+            Tuple.tuple("Club", 1L));
+    // The price bands still apply the venue filter
+    assertThat(facets.priceBands()).extracting(PriceBandCount::count)
+        .containsExactly(0L, 2L, 0L, 0L);
+  }
+
+  @Test
+  void priceBandFacetIgnoresTheSelectedPriceRange() {
+    PublishedEventFacets facets = eventRepository.findFacets(filter(null, 25.0, 50.0));
+
+    assertThat(facets.priceBands()).extracting(PriceBandCount::count)
+        .containsExactly(1L, 2L, 1L, 0L);
+    // The venues still apply the price filter
+    assertThat(facets.venues()).extracting(VenueCount::venue).containsExactly("Arena");
+  }
+
+  private void publishedEvent(User organizer, String venue, LocalDateTime start, double price) {
+    Event event = fixtures.event(organizer, EventStatusEnum.PUBLISHED, "Concert", venue, start);
+    fixtures.ticketType(event, price, 100);
+  }
+
+  private static PublishedEventFilter filter(String venue, Double minPrice, Double maxPrice) {
+    return new PublishedEventFilter(null, null, venue, minPrice, maxPrice);
+  }
+}
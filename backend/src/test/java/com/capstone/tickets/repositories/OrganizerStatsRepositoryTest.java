@@ -0,0 +1,179 @@
+package com.capstone.tickets.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.capstone.tickets.PostgresRepositoryTest;
+import com.capstone.tickets.TestFixtures;
+import com.capstone.tickets.domain.entities.Event;
+import com.capstone.tickets.domain.entities.EventStatusEnum;
+import com.capstone.tickets.domain.entities.Ticket;
+import com.capstone.tickets.domain.entities.TicketType;
+import com.capstone.tickets.domain.entities.TicketValidationStatusEnum;
+import com.capstone.tickets.domain.entities.User;
+import com.capstone.tickets.domain.enums.Role;
+import com.capstone.tickets.domain.projections.OrganizerSummaryView;
+import jakarta.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Checks the single-statement organizer summary against the per-metric queries it replaced.
+ */
+@PostgresRepositoryTest
+@Slf4j
+class OrganizerStatsRepositoryTest {
+
+  private static final int EVENTS = 40;
+  private static final int TICKET_TYPES_PER_EVENT = 3;
+  private static final int TICKETS_PER_TICKET_TYPE = 10;
+  private static final int BENCHMARK_RUNS = 500;
+
+  @Autowired
+  private OrganizerStatsRepository organizerStatsRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private TestFixtures fixtures;
+
+  private UUID organizerId;
+
+  @BeforeEach
+  void seed() {
+    User organizer = fixtures.user(Role.ORGANIZER);
+    User attendee = fixtures.user(Role.ATTENDEE);
+    organizerId = organizer.getId();
+
+    // Another organizer's data must not leak into the totals
+    User otherOrganizer = fixtures.user(Role.ORGANIZER);
+    fixtures.ticket(fixtures.ticketType(
+        fixtures.event(otherOrganizer, EventStatusEnum.PUBLISHED), 99.0, 10), attendee, 5);
+
+    for (int e = 0; e < EVENTS; e++) {
+      Event event = fixtures.event(organizer,
+          e % 4 == 0 ? EventStatusEnum.DRAFT : EventStatusEnum.PUBLISHED);
+      for (int tt = 0; tt < TICKET_TYPES_PER_EVENT; tt++) {
+        TicketType ticketType = fixtures.ticketType(event, 10.0 + tt, tt == 0 ? null : 500);
+        for (int t = 0; t < TICKETS_PER_TICKET_TYPE; t++) {
+          Ticket ticket = fixtures.ticket(ticketType, attendee, 1 + t % 3);
+          if (t % 2 == 0) {
+            fixtures.validation(ticket, t % 4 == 0
+                ? TicketValidationStatusEnum.VALID
+                : TicketValidationStatusEnum.INVALID);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void summaryMatchesPerMetricQueriesInOneStatement() {
+    Statistics statistics = fixtures.flushAndResetStatistics();
+
+    OrganizerSummaryView summary = organizerStatsRepository.summarize(organizerId);
+    long singleStatementCount = statistics.getPrepareStatementCount();
+
+    long[] perMetric = perMetricSummary();
+    double perMetricRevenue = perMetricRevenue();
+
+    assertThat(singleStatementCount).isEqualTo(1);
+    assertThat(summary.getTotalEvents()).isEqualTo(perMetric[0]).isEqualTo(EVENTS);
+    assertThat(summary.getPublishedEvents()).isEqualTo(perMetric[1]);
+    assertThat(summary.getDraftEvents()).isEqualTo(perMetric[2]);
+    assertThat(summary.getTotalTicketTypes()).isEqualTo(perMetric[3]);
+    assertThat(summary.getTotalTicketsAvailable()).isEqualTo(perMetric[4]);
+    assertThat(summary.getTotalTicketsSold()).isEqualTo(perMetric[5]);
+    assertThat(summary.getTotalRevenue()).isCloseTo(perMetricRevenue, within(0.001));
+    assertThat(summary.getTotalAttendances()).isEqualTo(perMetric[6]);
+  }
+
+  /**
+   * Logs median and p99 latency of the single statement against the per-metric round trips it
+   * replaced. Wall-clock timings are too noisy to gate the build on, so this only reports and runs
+   * with -Pbenchmark.
+   */
+  @Test
+  @Tag("benchmark")
+  void summaryLatencyAgainstPerMetricQueries() {
+    fixtures.flushAndResetStatistics();
+    for (int i = 0; i < 5; i++) {
+      organizerStatsRepository.summarize(organizerId);
+      perMetricSummary();
+      perMetricRevenue();
+    }
+
+    long[] singleStatementNanos = timings(() -> organizerStatsRepository.summarize(organizerId));
+    long[] perMetricNanos = timings(() -> {
+      perMetricRevenue();
+      return perMetricSummary();
+    });
+
+    log.info("Organizer summary over {} events in {} runs: single statement p50 {} us, " +
+            "p99 {} us; per-metric queries p50 {} us, p99 {} us", EVENTS, BENCHMARK_RUNS,
+        percentile(singleStatementNanos, 50) / 1_000, percentile(singleStatementNanos, 99) / 1_000,
+        percentile(perMetricNanos, 50) / 1_000, percentile(perMetricNanos, 99) / 1_000);
+  }
+
+  // The queries the summary used before it became a single statement
+  private long[] perMetricSummary() {
+    return new long[] {
+        count("SELECT COUNT(e) FROM Event e WHERE e.organizer.id = :organizerId"),
+        count("SELECT COUNT(e) FROM Event e WHERE e.organizer.id = :organizerId " +
+            "AND e.status = com.capstone.tickets.domain.entities.EventStatusEnum.PUBLISHED"),
+        count("SELECT COUNT(e) FROM Event e WHERE e.organizer.id = :organizerId " +
+            "AND e.status = com.capstone.tickets.domain.entities.EventStatusEnum.DRAFT"),
+        count("SELECT COUNT(tt) FROM TicketType tt JOIN tt.event e " +
+            "WHERE e.organizer.id = :organizerId"),
+        count("SELECT COALESCE(SUM(tt.totalAvailable), 0) FROM TicketType tt JOIN tt.event e " +
+            "WHERE e.organizer.id = :organizerId"),
+        count("SELECT COALESCE(SUM(t.quantity), 0) FROM Ticket t JOIN t.ticketType tt " +
+            "JOIN tt.event e WHERE e.organizer.id = :organizerId"),
+        count("SELECT COUNT(tv) FROM TicketValidation tv JOIN tv.ticket t JOIN t.ticketType tt " +
+            "JOIN tt.event e WHERE e.organizer.id = :organizerId " +
+            "AND tv.status = com.capstone.tickets.domain.entities.TicketValidationStatusEnum.VALID")
+    };
+  }
+
+  private double perMetricRevenue() {
+    return entityManager.createQuery("SELECT COALESCE(SUM(tt.price * t.quantity), 0) " +
+            "FROM Ticket t JOIN t.ticketType tt JOIN tt.event e " +
+            "WHERE e.organizer.id = :organizerId", Number.class)
+        .setParameter("organizerId", organizerId)
+        .getSingleResult()
+        .doubleValue();
+  }
+
+  private long count(String jpql) {
+    return entityManager.createQuery(jpql, Number.class)
+        .setParameter("organizerId", organizerId)
+        .getSingleResult()
+        .longValue();
+  }
+
+  // Sorted per-run timings in nanoseconds
+  private static long[] timings(Supplier<?> query) {
+    long[] timings = new long[BENCHMARK_RUNS];
+    for (int i = 0; i < BENCHMARK_RUNS; i++) {
+      long start = System.nanoTime();
+      query.get();
+      timings[i] = System.nanoTime() - start;
+    }
+    Arrays.sort(timings);
+    return timings;
+  }
+
+  // Nearest-rank percentile of sorted timings
+  private static long percentile(long[] sortedTimings, int percentile) {
+    int rank = (int) Math.ceil(percentile / 100.0 * sortedTimings.length);
+    return sortedTimings[Math.max(rank, 1) - 1];
+  }
+}
@@ -0,0 +1,67 @@
+package com.capstone.tickets.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.capstone.tickets.PostgresRepositoryTest;
+import com.capstone.tickets.TestFixtures;
+import com.capstone.tickets.domain.ContentVersion;
+import com.capstone.tickets.domain.entities.Event;
+import com.capstone.tickets.domain.entities.EventStatusEnum;
+import com.capstone.tickets.domain.entities.User;
+import com.capstone.tickets.domain.enums.Role;
+import java.time.LocalDateTime;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@PostgresRepositoryTest
+class PublishedEventVersionTest {
+
+  @Autowired
+  private EventRepository eventRepository;
+
+  @Autowired
+  private TestFixtures fixtures;
+
+  @Test
+  void incrementChangesTheDetailsValidators() {
+    Event event = publishedEvent();
+    eventRepository.incrementPublishedVersion(event.getId(), LocalDateTime.now().minusMinutes(1));
+    ContentVersion before = version(event);
+
+    eventRepository.incrementPublishedVersion(event.getId(), LocalDateTime.now());
+    ContentVersion after = version(event);
+
+    assertThat(after.eTag()).isNotEqualTo(before.eTag());
+    assertThat(after.lastModifiedMillis()).isGreaterThan(before.lastModifiedMillis());
+  }
+
+  @Test
+  void readingTheVersionIsOneStatementWithoutTouchingTickets() {
+    Event event = publishedEvent();
+    Statistics statistics = fixtures.flushAndResetStatistics();
+
+    eventRepository.findPublishedVersion(event.getId());
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  @Test
+  void unpublishedEventsHaveNoVersion() {
+    User organizer = fixtures.user(Role.ORGANIZER);
+    Event draft = fixtures.event(organizer, EventStatusEnum.DRAFT);
+
+    assertThat(eventRepository.findPublishedVersion(draft.getId())).isEmpty();
+  }
+
+  private Event publishedEvent() {
+    Event event = fixtures.event(fixtures.user(Role.ORGANIZER), EventStatusEnum.PUBLISHED);
+    fixtures.ticketType(event, 10, 100);
+    return event;
+  }
+
+  private ContentVersion version(Event event) {
+    return ContentVersion.of(event.getId().toString(),
+        eventRepository.findPublishedVersion(event.getId()).orElseThrow());
+  }
+}
@@ -0,0 +1,43 @@
+package com.capstone.tickets.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.capstone.tickets.PostgresRepositoryTest;
+import com.capstone.tickets.TestFixtures;
+import com.capstone.tickets.domain.ContentVersion;
+import java.time.LocalDateTime;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@PostgresRepositoryTest
+class PublishedListingVersionTest {
+
+  @Autowired
+  private EventRepository eventRepository;
+
+  @Autowired
+  private TestFixtures fixtures;
+
+  @Test
+  void incrementChangesTheListingETag() {
+    ContentVersion before =
+        ContentVersion.of("published-events", eventRepository.findPublishedListingVersion());
+
+    assertThat(eventRepository.incrementPublishedListingVersion(LocalDateTime.now()))
+        .isEqualTo(1);
+    ContentVersion after =
+        ContentVersion.of("published-events", eventRepository.findPublishedListingVersion());
+
+    assertThat(after.eTag()).isNotEqualTo(before.eTag());
+  }
+
+  @Test
+  void readingTheVersionIsOneStatement() {
+    Statistics statistics = fixtures.flushAndResetStatistics();
+
+    eventRepository.findPublishedListingVersion();
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+}
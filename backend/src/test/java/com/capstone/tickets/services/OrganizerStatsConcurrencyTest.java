@@ -0,0 +1,248 @@
+package com.capstone.tickets.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.capstone.tickets.PostgresRepositoryTest;
+import com.capstone.tickets.TestFixtures;
+import com.capstone.tickets.bulkheads.BulkheadRegistry;
+import com.capstone.tickets.domain.OrganizerStatsDelta;
+import com.capstone.tickets.domain.UpdateEventRequest;
+import com.capstone.tickets.domain.UpdateTicketTypeRequest;
+import com.capstone.tickets.domain.entities.Event;
+import com.capstone.tickets.domain.entities.EventStatusEnum;
+import com.capstone.tickets.domain.entities.OrganizerStats;
+import com.capstone.tickets.domain.entities.TicketType;
+import com.capstone.tickets.domain.entities.User;
+import com.capstone.tickets.domain.enums.Role;
+import com.capstone.tickets.domain.projections.OrganizerSummaryView;
+import com.capstone.tickets.exceptions.EventNotOnSaleException;
+import com.capstone.tickets.repositories.OrganizerStatsRepository;
+import com.capstone.tickets.services.impl.EventServiceImpl;
+import com.capstone.tickets.services.impl.OrganizerStatsServiceImpl;
+import com.capstone.tickets.services.impl.SalesAnalyticsServiceImpl;
+import com.capstone.tickets.services.impl.TicketTypeServiceImpl;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs purchases against concurrent event edits, completion and reconciliation, and checks that
+ * the organizer counters end up where the summary over the source tables says they should.
+ */
+@PostgresRepositoryTest
+@Import({OrganizerStatsServiceImpl.class, SalesAnalyticsServiceImpl.class,
+    TicketTypeServiceImpl.class, EventServiceImpl.class})
+class OrganizerStatsConcurrencyTest {
+
+  private static final int BUYERS = 4;
+  private static final int PURCHASES_PER_BUYER = 25;
+  private static final int EDITS = 10;
+
+  @MockitoBean
+  private QrCodeService qrCodeService;
+
+  @MockitoBean
+  private BulkheadRegistry bulkheadRegistry;
+
+  @Autowired
+  private OrganizerStatsService organizerStatsService;
+
+  @Autowired
+  private TicketTypeService ticketTypeService;
+
+  @Autowired
+  private EventService eventService;
+
+  @Autowired
+  private OrganizerStatsRepository organizerStatsRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private TestFixtures fixtures;
+
+  // Needs committed rows and several connections, so it runs outside the test transaction and
+  // cleans up after itself
+  @Test
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  void aPurchaseWaitingOnAPriceChangeIsCountedAtTheNewPrice() throws Exception {
+    Seed seed = seed();
+    TicketType ticketType = seed.event().getTicketTypes().get(0);
+    ExecutorService buyer = Executors.newSingleThreadExecutor();
+    try {
+      ticketTypeService.purchaseTicket(seed.attendeeId(), ticketType.getId(), 2);
+
+      Future<?> purchase = new TransactionTemplate(transactionManager).execute(status -> {
+        eventService.updateEventForOrganizer(seed.organizerId(), seed.event().getId(),
+            priceChange(seed.event(), 25.0));
+        // Blocks on the ticket type lock the edit holds until it commits
+        Future<?> waiting = buyer.submit(() ->
+            ticketTypeService.purchaseTicket(seed.attendeeId(), ticketType.getId(), 3));
+        pause();
+        assertThat(waiting).isNotDone();
+        return waiting;
+      });
+      purchase.get(30, TimeUnit.SECONDS);
+
+      OrganizerStats stats = organizerStatsService.getStats(seed.organizerId());
+      assertThat(stats.getTotalTicketsSold()).isEqualTo(5);
+      assertThat(stats.getTotalRevenue()).isCloseTo(125.0, within(0.001));
+      assertMatchesSummary(seed.organizerId());
+    } finally {
+      buyer.shutdownNow();
+      delete(seed);
+    }
+  }
+
+  @Test
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  void countersMatchTheSourceTablesAfterConcurrentPurchasesEditsAndCompletion()
+      throws Exception {
+    Seed seed = seed();
+    List<TicketType> ticketTypes = seed.event().getTicketTypes();
+    ExecutorService buyers = Executors.newFixedThreadPool(BUYERS);
+    AtomicLong ticketsSold = new AtomicLong();
+    try {
+      List<CompletableFuture<Void>> purchases = new ArrayList<>();
+      for (int b = 0; b < BUYERS; b++) {
+        int buyerIndex = b;
+        purchases.add(CompletableFuture.runAsync(() -> {
+          for (int p = 0; p < PURCHASES_PER_BUYER; p++) {
+            int quantity = 1 + p % 3;
+            TicketType ticketType = ticketTypes.get((buyerIndex + p) % ticketTypes.size());
+            try {
+              ticketTypeService.purchaseTicket(seed.attendeeId(), ticketType.getId(), quantity);
+              ticketsSold.addAndGet(quantity);
+            } catch (EventNotOnSaleException e) {
+              // Completed while this buyer was still going
+              return;
+            }
+          }
+        }, buyers));
+      }
+
+      for (int e = 0; e < EDITS; e++) {
+        eventService.updateEventForOrganizer(seed.organizerId(), seed.event().getId(),
+            priceChange(seed.event(), e % 2 == 0 ? 15.0 : 10.0));
+        organizerStatsService.reconcile(seed.organizerId());
+      }
+      assertThat(eventService.completeEvent(seed.event().getId())).isTrue();
+      CompletableFuture.allOf(purchases.toArray(CompletableFuture[]::new))
+          .get(60, TimeUnit.SECONDS);
+
+      OrganizerStats stats = organizerStatsService.getStats(seed.organizerId());
+      assertThat(stats.getTotalTicketsSold()).isEqualTo(ticketsSold.get());
+      assertThat(stats.getPublishedEvents()).isZero();
+      assertMatchesSummary(seed.organizerId());
+      // Nothing left for the scheduled reconcile to correct
+      assertThat(organizerStatsService.reconcile(seed.organizerId())).isFalse();
+    } finally {
+      buyers.shutdownNow();
+      delete(seed);
+    }
+  }
+
+  @Test
+  void reconcileResetsDriftedCountersOnce() {
+    User organizer = fixtures.user(Role.ORGANIZER);
+    User attendee = fixtures.user(Role.ATTENDEE);
+    fixtures.ticket(fixtures.ticketType(fixtures.event(organizer, EventStatusEnum.PUBLISHED),
+        10.0, 100), attendee, 2);
+    fixtures.flushAndResetStatistics();
+    organizerStatsService.getStats(organizer.getId());
+    organizerStatsRepository.applyDelta(organizer.getId(), OrganizerStatsDelta.builder()
+        .totalTicketsSold(5)
+        .totalRevenue(50.0)
+        .build(), LocalDateTime.now());
+    fixtures.flushAndResetStatistics();
+
+    assertThat(organizerStatsService.reconcile(organizer.getId())).isTrue();
+    fixtures.flushAndResetStatistics();
+    assertMatchesSummary(organizer.getId());
+    assertThat(organizerStatsService.reconcile(organizer.getId())).isFalse();
+  }
+
+  private record Seed(Event event, UUID organizerId, UUID attendeeId) {
+  }
+
+  // A published event that has already ended, so it can be completed, with two ticket types
+  // large enough never to sell out
+  private Seed seed() {
+    Seed seed = new TransactionTemplate(transactionManager).execute(status -> {
+      User organizer = fixtures.user(Role.ORGANIZER);
+      User attendee = fixtures.user(Role.ATTENDEE);
+      Event event = fixtures.event(organizer, EventStatusEnum.PUBLISHED, "Event", "Venue",
+          LocalDateTime.now().minusDays(1));
+      fixtures.ticketType(event, 10.0, 10_000);
+      fixtures.ticketType(event, 20.0, 10_000);
+      return new Seed(event, organizer.getId(), attendee.getId());
+    });
+    organizerStatsService.getStats(seed.organizerId());
+    return seed;
+  }
+
+  private static UpdateEventRequest priceChange(Event event, double price) {
+    List<UpdateTicketTypeRequest> ticketTypes = event.getTicketTypes().stream()
+        .map(ticketType -> new UpdateTicketTypeRequest(ticketType.getId(), ticketType.getName(),
+            price, ticketType.getDescription(), ticketType.getTotalAvailable()))
+        .toList();
+    return new UpdateEventRequest(event.getId(), event.getName(), event.getStart(),
+        event.getEnd(), event.getVenue(), event.getSalesStart(), event.getSalesEnd(),
+        EventStatusEnum.PUBLISHED, new ArrayList<>(ticketTypes));
+  }
+
+  private void assertMatchesSummary(UUID organizerId) {
+    OrganizerSummaryView stats = organizerStatsService.getStats(organizerId);
+    OrganizerSummaryView summary = organizerStatsService.computeSummary(organizerId);
+    assertThat(stats.getTotalEvents()).isEqualTo(summary.getTotalEvents());
+    assertThat(stats.getPublishedEvents()).isEqualTo(summary.getPublishedEvents());
+    assertThat(stats.getDraftEvents()).isEqualTo(summary.getDraftEvents());
+    assertThat(stats.getTotalTicketTypes()).isEqualTo(summary.getTotalTicketTypes());
+    assertThat(stats.getTotalTicketsAvailable()).isEqualTo(summary.getTotalTicketsAvailable());
+    assertThat(stats.getTotalTicketsSold()).isEqualTo(summary.getTotalTicketsSold());
+    assertThat(stats.getTotalRevenue()).isCloseTo(summary.getTotalRevenue(), within(0.001));
+    assertThat(stats.getTotalAttendances()).isEqualTo(summary.getTotalAttendances());
+  }
+
+  private static void pause() {
+    try {
+      Thread.sleep(200);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void delete(Seed seed) {
+    UUID eventId = seed.event().getId();
+    for (String table : List.of("ticket_validations", "qr_codes", "tickets",
+        "event_sales_rollups", "ticket_types")) {
+      jdbcTemplate.update("DELETE FROM " + table + " WHERE event_id = ?", eventId);
+    }
+    jdbcTemplate.update("DELETE FROM events WHERE id = ?", eventId);
+    jdbcTemplate.update("DELETE FROM organizer_stats WHERE organizer_id = ?", seed.organizerId());
+    for (UUID userId : List.of(seed.organizerId(), seed.attendeeId())) {
+      jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+  }
+}
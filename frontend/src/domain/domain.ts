@@ -200,6 +200,8 @@ export enum TicketValidationStatus {
 export interface TicketValidationRequest {
   id: string;
   method: TicketValidationMethod;
+  // Optional: lets the backend read only the event's partition
+  eventId?: string;
 }
 
 export interface TicketValidationResponse {